@@ -0,0 +1,38 @@
+import monday.server.MondayServer;
+import monday.util.Metrics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Launcher class for the headless MONDAY server.
+ * Serves every user's tasks over a local socket instead of opening a window.
+ */
+public class ServerLauncher {
+
+    private static final long METRICS_DUMP_INTERVAL_SECONDS = 60;
+
+    /**
+     * Entry point for the server.
+     * Takes an optional port (default 7070) and data directory (default "data").
+     *
+     * @param args Command line arguments: [port] [data directory].
+     * @throws IOException If the port cannot be bound.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : MondayServer.DEFAULT_PORT;
+        Path dataRoot = Path.of(args.length > 1 ? args[1] : "data");
+
+        Path metricsFile = dataRoot.resolve("monday.stats");
+        Metrics.GLOBAL.startPeriodicDump(metricsFile, METRICS_DUMP_INTERVAL_SECONDS);
+
+        MondayServer server = new MondayServer(dataRoot, port);
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            Metrics.GLOBAL.dumpTo(metricsFile);
+        }, "monday-shutdown"));
+        System.out.println("MONDAY server listening on localhost:" + server.getPort()
+                + ". Ugh, fine, I'll take requests.");
+    }
+}
@@ -1,18 +1,30 @@
 package monday;
 
-import monday.command.Command;
-import monday.command.CommandException;
-import monday.command.CommandResult;
-import monday.exception.MondayStorageException;
-import monday.exception.ParseException;
 import monday.parser.Parser;
+import monday.storage.FileStorage;
+import monday.storage.FileWatcher;
+import monday.storage.InMemoryStorage;
+import monday.storage.JdbcStorage;
+import monday.storage.ShardedStorage;
 import monday.storage.Storage;
+import monday.task.DescriptionPool;
 import monday.task.LoadResult;
-import monday.task.TaskList;
+import monday.task.Task;
+import monday.task.TaskEdit;
 import monday.ui.MainWindow;
+import monday.ui.NullSink;
 import monday.ui.Ui;
+import monday.util.Metrics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 
 /**
@@ -21,27 +33,107 @@ import javafx.stage.Stage;
  */
 public class Monday extends Application {
 
+    private static final int DESCRIPTION_POOL_CAPACITY = 4096;
+    private static final String DATA_DIR = "data";
+    private static final String DATA_FILE = "monday.txt";
+
+    /** System property that picks the storage backend: file (default), sharded, jdbc or memory */
+    private static final String STORAGE_PROPERTY = "monday.storage";
+    /** System property with the number of tasks per segment file of the sharded backend */
+    private static final String SEGMENT_SIZE_PROPERTY = "monday.segmentSize";
+    /** System property with the JDBC URL of the jdbc backend's database */
+    private static final String JDBC_URL_PROPERTY = "monday.jdbcUrl";
+    private static final String DEFAULT_JDBC_URL = "jdbc:h2:file:./data/monday";
+    /** System property that GZIP-compresses full saves of the file and sharded backends */
+    private static final String COMPRESS_PROPERTY = "monday.compress";
+    private static final Path METRICS_FILE = Path.of(DATA_DIR, "monday.stats");
+    private static final long METRICS_DUMP_INTERVAL_SECONDS = 60;
+    private static final long BACKUP_INTERVAL_SECONDS = 15 * 60;
+
+    /** System property that makes Monday report its startup time, run a few commands and exit */
+    private static final String STARTUP_PROBE_PROPERTY = "monday.startupProbe";
+    private static final String[] STARTUP_PROBE_COMMANDS = {
+        "list", "todo read book", "deadline return book /by 2/12/2019 1800",
+        "event meeting /from 2019-12-02 1400 /to 2019-12-02 1600", "find book", "view 2019-12-02",
+        "mark 1", "unmark 1", "undo", "redo", "delete 1", "help", "bye"
+    };
+
     private Ui ui;
-    private Storage storage;
-    private TaskList taskList;
-    private Parser parser;
+    private Session session;
     private MainWindow mainWindow;
-
-    private boolean hasCorruption;
+    private final boolean isFileBacked;
+    private FileWatcher fileWatcher;
 
     /**
      * Creates a new Monday instance with the required components.
      */
     public Monday() {
-        ui = new Ui();
-        storage = new Storage("data", "monday.txt");
-        parser = new Parser();
+        DescriptionPool descriptionPool = new DescriptionPool(DESCRIPTION_POOL_CAPACITY);
+        ui = new Ui(new NullSink());
+        Storage storage = createStorage(System.getProperty(STORAGE_PROPERTY, "file"), descriptionPool);
+        isFileBacked = storage instanceof FileStorage;
+        session = new Session(ui, storage, new Parser(descriptionPool));
+    }
+
+    /**
+     * Creates the storage backend named by the monday.storage system property.
+     *
+     * @param backend "file" (the default), "sharded", "jdbc" or "memory".
+     * @param descriptionPool The pool for loaded descriptions.
+     * @return The storage to use.
+     */
+    private static Storage createStorage(String backend, DescriptionPool descriptionPool) {
+        switch (backend) {
+        case "memory":
+            return new InMemoryStorage();
+        case "jdbc":
+            return new JdbcStorage(System.getProperty(JDBC_URL_PROPERTY, DEFAULT_JDBC_URL), descriptionPool);
+        case "sharded":
+            ShardedStorage shardedStorage = new ShardedStorage(DATA_DIR, DATA_FILE, descriptionPool,
+                    getSegmentSize());
+            shardedStorage.setCompressed(Boolean.getBoolean(COMPRESS_PROPERTY));
+            return shardedStorage;
+        case "file":
+            break;
+        default:
+            System.err.println("Warning: Ugh, I don't know the '" + backend + "' storage. Using files.");
+            break;
+        }
+        FileStorage fileStorage = new FileStorage(DATA_DIR, DATA_FILE, descriptionPool);
+        fileStorage.setCompressed(Boolean.getBoolean(COMPRESS_PROPERTY));
+        fileStorage.startBackups(BACKUP_INTERVAL_SECONDS);
+        return fileStorage;
+    }
+
+    /**
+     * Gets the segment size named by the monday.segmentSize system property.
+     *
+     * @return The segment size, or the default if none or an invalid one is given.
+     */
+    private static int getSegmentSize() {
+        String value = System.getProperty(SEGMENT_SIZE_PROPERTY);
+        if (value == null) {
+            return ShardedStorage.DEFAULT_SEGMENT_SIZE;
+        }
+        try {
+            int segmentSize = Integer.parseInt(value.trim());
+            if (segmentSize > 0) {
+                return segmentSize;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through to the warning below
+        }
+        System.err.println("Warning: Ugh, '" + value + "' is not a segment size. Using "
+                + ShardedStorage.DEFAULT_SEGMENT_SIZE + ".");
+        return ShardedStorage.DEFAULT_SEGMENT_SIZE;
     }
 
     @Override
     public void start(Stage primaryStage) {
-        // Load tasks first
-        hasCorruption = loadTasks();
+        // Load tasks in the background so the window shows straight away
+        CompletableFuture<LoadResult> loading = session.loadTasksInBackground();
+
+        Metrics.GLOBAL.startPeriodicDump(METRICS_FILE, METRICS_DUMP_INTERVAL_SECONDS);
 
         // Setup GUI
         mainWindow = new MainWindow();
@@ -52,11 +144,57 @@ public class Monday extends Application {
         String greeting = ui.getGreetingForGui();
         mainWindow.showMessage(greeting);
 
-        if (hasCorruption) {
-            LoadResult loadResult = storage.getLoadResult();
-            mainWindow.showMessage("Ugh. I skipped " + loadResult.getCorruptedLineCount()
-                + " corrupted lines.\nCheck monday.txt.corrupted for recovery.");
+        if (Boolean.getBoolean(STARTUP_PROBE_PROPERTY)) {
+            runStartupProbe();
+            return;
         }
+
+        loading.thenAccept(loadResult -> {
+            if (loadResult != null && loadResult.hasCorruption()) {
+                Platform.runLater(() -> mainWindow.showMessage("Ugh. I skipped "
+                        + loadResult.getCorruptedLineCount()
+                        + " corrupted lines.\nCheck monday.txt.corrupted for recovery."));
+            }
+            watchDataFiles();
+        });
+    }
+
+    /**
+     * Starts catching up with changes made to the data files from outside this window, such as
+     * edits by hand or by another MONDAY, as soon as they are saved.
+     */
+    private void watchDataFiles() {
+        if (!isFileBacked) {
+            return;
+        }
+        fileWatcher = new FileWatcher(Path.of(DATA_DIR), DATA_FILE, this::showExternalChanges);
+        try {
+            fileWatcher.start();
+        } catch (IOException e) {
+            System.err.println("Warning: Ugh, I can't watch your data files. " + e.getMessage());
+        }
+    }
+
+    /**
+     * Applies changes made to the data files from outside, and shows what changed.
+     * Runs on the watcher thread, so the window never waits for the tasks.
+     */
+    private void showExternalChanges() {
+        List<TaskEdit> edits = session.syncExternalChanges();
+        if (edits != null && edits.isEmpty()) {
+            return;
+        }
+        String message = ui.getExternalChangesMessage(edits);
+        Platform.runLater(() -> mainWindow.showExternalChanges(message));
+    }
+
+    @Override
+    public void stop() {
+        if (fileWatcher != null) {
+            fileWatcher.close();
+        }
+        session.close();
+        Metrics.GLOBAL.dumpTo(METRICS_FILE);
     }
 
     /**
@@ -67,65 +205,47 @@ public class Monday extends Application {
      * @return The response to display.
      */
     public String getResponse(String userInput) {
-        try {
-            if (userInput.isEmpty()) {
-                return "Ugh, you didn't actually say anything. Try again.";
-            }
-
-            Command command = parser.parseCommand(userInput);
-            CommandResult result = command.execute(taskList, ui, storage);
-
-            if (result.shouldSave()) {
-                saveTasksIfPossible();
-            }
-
-            if (result.shouldExit()) {
-                // Save on exit if corruption was detected
-                if (hasCorruption) {
-                    saveTasksIfPossible();
-                }
-                // Schedule exit after current event processing
-                javafx.application.Platform.exit();
-            }
-
-            return ui.getLastResponse();
-
-        } catch (ParseException | CommandException e) {
-            return "Warning: " + e.getMessage();
+        String response = session.getResponse(userInput);
+        if (session.isExitRequested()) {
+            // Schedule exit after current event processing
+            Platform.exit();
         }
+        return response;
     }
 
     /**
-     * Loads tasks from storage and initializes the task list.
-     * Handles any corruption errors during loading.
+     * Gets the command that continues the listing shown by the last response.
+     * Lets the GUI load long listings a page at a time.
      *
-     * @return true if corruption was detected during load.
+     * @return The next page command, or null if the last response was complete.
      */
-    private boolean loadTasks() {
-        try {
-            LoadResult loadResult = storage.loadTasks();
-            taskList = new TaskList(loadResult.getTasks());
-            if (loadResult.hasCorruption()) {
-                ui.showCorruptionMessage(loadResult.getCorruptedLineCount());
-            }
-            return loadResult.hasCorruption();
-        } catch (MondayStorageException e) {
-            System.err.println("Warning: " + e.getMessage());
-            taskList = new TaskList();
-            return false;
-        }
+    public String getNextPageCommand() {
+        return session.getNextPageCommand();
     }
 
     /**
-     * Saves tasks to storage if possible.
-     * Catches any storage exceptions and prints a warning to stderr.
+     * Gets the current tasks for the live search preview.
+     * Safe to call from any thread; never waits for a command to finish.
+     *
+     * @return An immutable snapshot of the current tasks.
      */
-    private void saveTasksIfPossible() {
-        try {
-            storage.saveTasks(taskList.getTasks());
-        } catch (MondayStorageException e) {
-            System.err.println("Warning: " + e.getMessage());
+    public List<Task> getTasks() {
+        return session.getTasks();
+    }
+
+    /**
+     * Reports the time from JVM start to the first greeting, then runs typical commands and exits.
+     * Used by the startup benchmark and as the training run for the class data sharing archive,
+     * so it should only be run in a scratch directory.
+     */
+    private void runStartupProbe() {
+        long greetingMillis = ProcessHandle.current().info().startInstant()
+                .map(startTime -> Duration.between(startTime, Instant.now()).toMillis())
+                .orElse(-1L);
+        for (String command : STARTUP_PROBE_COMMANDS) {
+            getResponse(command);
         }
+        System.out.println("Time to first greeting: " + greetingMillis + " ms");
     }
 
     /**
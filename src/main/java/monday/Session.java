@@ -0,0 +1,330 @@
+package monday;
+
+import monday.command.Command;
+import monday.command.CommandException;
+import monday.command.CommandResult;
+import monday.exception.MondayStorageException;
+import monday.exception.ParseException;
+import monday.jfr.CommandExecuteEvent;
+import monday.parser.Parser;
+import monday.storage.Storage;
+import monday.task.ConcurrentTaskList;
+import monday.task.LoadResult;
+import monday.task.Task;
+import monday.task.TaskEdit;
+import monday.task.TaskList;
+import monday.ui.Ui;
+import monday.util.LatencyHistogram;
+import monday.util.Metrics;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * One user's working state: their task list, storage and UI, and the logic that turns
+ * their input into responses.
+ * The GUI drives a single session; the server drives one per user. Methods are synchronized
+ * so several connections of the same user can share a session safely.
+ */
+public class Session {
+
+    private static final int JOURNAL_COMPACTION_THRESHOLD = 1000;
+
+    private static final LatencyHistogram RESPONSE_TIMER = Metrics.GLOBAL.timer("command.total");
+    private static final LatencyHistogram EXECUTE_TIMER = Metrics.GLOBAL.timer("command.execute");
+    private static final LatencyHistogram PERSIST_TIMER = Metrics.GLOBAL.timer("command.persist");
+    private static final LongAdder REJECTED_COMMANDS = Metrics.GLOBAL.counter("command.rejected");
+
+    private final Ui ui;
+    private final Storage storage;
+    private final Parser parser;
+    private volatile TaskList taskList = new ConcurrentTaskList();
+
+    private boolean hasCorruption;
+    private boolean isExitRequested;
+    private CompletableFuture<LoadResult> pendingLoad;
+    private String nextPageCommand;
+
+    /**
+     * Creates a new session with the given components. Call loadTasks before use.
+     *
+     * @param ui The UI that renders responses.
+     * @param storage The storage holding this user's tasks.
+     * @param parser The parser for this user's input.
+     */
+    public Session(Ui ui, Storage storage, Parser parser) {
+        this.ui = ui;
+        this.storage = storage;
+        this.parser = parser;
+    }
+
+    /**
+     * Loads tasks from storage and initializes the task list.
+     * Handles any corruption errors during loading.
+     *
+     * @return true if corruption was detected during load.
+     */
+    public synchronized boolean loadTasks() {
+        pendingLoad = null;
+        applyLoadResult(readTasks());
+        return hasCorruption;
+    }
+
+    /**
+     * Starts loading tasks from storage on a background warm-up thread and returns at once.
+     * The first call that needs the tasks (any command, or close) waits for the load to finish,
+     * so a command typed before then still sees every task.
+     *
+     * @return A future completed with the load result, or with null if the storage could not be read.
+     */
+    public synchronized CompletableFuture<LoadResult> loadTasksInBackground() {
+        pendingLoad = CompletableFuture.supplyAsync(this::readTasks,
+                runnable -> Thread.ofPlatform().name("monday-warm-up").daemon().start(runnable));
+        return pendingLoad;
+    }
+
+    /**
+     * Reads tasks from storage without touching the session state, so it can run off the session lock.
+     *
+     * @return The load result, or null if the storage could not be read.
+     */
+    private LoadResult readTasks() {
+        try {
+            return storage.loadTasks();
+        } catch (MondayStorageException e) {
+            System.err.println("Warning: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Waits for a background load started by loadTasksInBackground, if any, and applies its result.
+     */
+    private void finishLoading() {
+        if (pendingLoad != null) {
+            applyLoadResult(pendingLoad.join());
+            pendingLoad = null;
+        }
+    }
+
+    private void applyLoadResult(LoadResult loadResult) {
+        if (loadResult == null) {
+            taskList = new ConcurrentTaskList();
+            hasCorruption = false;
+            return;
+        }
+        taskList = new ConcurrentTaskList(loadResult.getTasks());
+        if (loadResult.hasCorruption()) {
+            ui.showCorruptionMessage(loadResult.getCorruptedLineCount());
+            ui.flush();
+        }
+        hasCorruption = loadResult.hasCorruption();
+    }
+
+    /**
+     * Gets a response for the given user input.
+     * Parses and executes the command, then persists any change it made.
+     *
+     * @param userInput The user's input string.
+     * @return The response to display.
+     */
+    public synchronized String getResponse(String userInput) {
+        long startTime = System.nanoTime();
+        try {
+            return respond(userInput);
+        } finally {
+            RESPONSE_TIMER.record(System.nanoTime() - startTime);
+        }
+    }
+
+    private String respond(String userInput) {
+        finishLoading();
+        nextPageCommand = null;
+        isExitRequested = false;
+        try {
+            if (userInput.isEmpty()) {
+                return "Ugh, you didn't actually say anything. Try again.";
+            }
+
+            Command command = parser.parseCommand(userInput);
+            applyExternalChanges();
+            if (command.getType().changesTasks() && storage.isReadOnly()) {
+                throw new CommandException("Ugh. Another MONDAY has these tasks open, so I'm read-only. "
+                        + "Close it first.");
+            }
+            CommandResult result = execute(command);
+            nextPageCommand = ui.getNextPageCommand();
+
+            long persistStartTime = System.nanoTime();
+            if (result.shouldReload()) {
+                applyLoadResult(readTasks());
+            } else if (result.getEdit() != null) {
+                persistEdit(result.getEdit());
+                PERSIST_TIMER.record(System.nanoTime() - persistStartTime);
+            } else if (result.shouldSave()) {
+                saveTasksIfPossible();
+                PERSIST_TIMER.record(System.nanoTime() - persistStartTime);
+            }
+
+            if (result.shouldExit()) {
+                // Other connections of the same user may carry on, so keep the storage open
+                flush();
+                isExitRequested = true;
+            }
+
+            return ui.getLastResponse();
+
+        } catch (ParseException | CommandException e) {
+            REJECTED_COMMANDS.increment();
+            return "Warning: " + e.getMessage();
+        }
+    }
+
+    /**
+     * Catches up with changes made to this user's stored tasks from outside the session: by hand,
+     * by a script, or by another process that is writing them. Called before every command, and by
+     * the GUI whenever the storage file changes.
+     *
+     * @return The edits applied, in order (empty if nothing changed), or null if every task was reloaded.
+     */
+    public synchronized List<TaskEdit> syncExternalChanges() {
+        finishLoading();
+        return applyExternalChanges();
+    }
+
+    private List<TaskEdit> applyExternalChanges() {
+        try {
+            List<TaskEdit> edits = storage.applyExternalChanges(taskList);
+            if (edits == null) {
+                applyLoadResult(readTasks());
+            } else if (!edits.isEmpty()) {
+                // Recorded task numbers may now point at other tasks
+                taskList.forgetHistory();
+            }
+            return edits;
+        } catch (MondayStorageException e) {
+            System.err.println("Warning: " + e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * Executes a command against this session's tasks, timing it and recording a JFR event.
+     *
+     * @param command The command to execute.
+     * @return The result of the command.
+     * @throws CommandException If the command fails.
+     */
+    private CommandResult execute(Command command) throws CommandException {
+        long startTime = System.nanoTime();
+        CommandExecuteEvent event = new CommandExecuteEvent();
+        event.begin();
+        boolean isSuccessful = false;
+        try {
+            CommandResult result = command.execute(taskList, ui, storage);
+            ui.flush();
+            isSuccessful = true;
+            return result;
+        } finally {
+            EXECUTE_TIMER.record(System.nanoTime() - startTime);
+            if (event.shouldCommit()) {
+                event.commandType = command.getType().name();
+                event.taskCount = taskList.getTaskCount();
+                event.isSuccessful = isSuccessful;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Gets an immutable snapshot of the current tasks without waiting for commands to finish.
+     * Lets the GUI search tasks off the JavaFX thread; empty until a background load is applied.
+     *
+     * @return The current tasks.
+     */
+    public List<Task> getTasks() {
+        return taskList.getTasks();
+    }
+
+    /**
+     * Gets the command that continues the listing shown by the last response.
+     *
+     * @return The next page command, or null if the last response was complete.
+     */
+    public synchronized String getNextPageCommand() {
+        return nextPageCommand;
+    }
+
+    /**
+     * Checks if the last command asked to exit.
+     *
+     * @return true if the last command was an exit command.
+     */
+    public synchronized boolean isExitRequested() {
+        return isExitRequested;
+    }
+
+    /**
+     * Checks if corrupted lines were skipped when the tasks were loaded.
+     *
+     * @return true if corruption was detected during load.
+     */
+    public synchronized boolean hasCorruption() {
+        finishLoading();
+        return hasCorruption;
+    }
+
+    /**
+     * Saves everything that is not yet in the storage file, then releases the storage.
+     * The session should not be used afterwards.
+     */
+    public synchronized void close() {
+        flush();
+        storage.close();
+    }
+
+    /**
+     * Saves everything that is not yet in the storage file.
+     * Saves if corruption was detected (so the file is cleaned up) or edits are still only journaled.
+     */
+    private void flush() {
+        finishLoading();
+        if (storage.isReadOnly()) {
+            return;
+        }
+        if (hasCorruption || storage.getJournalEntryCount() > 0) {
+            saveTasksIfPossible();
+        }
+    }
+
+    /**
+     * Persists a single-task edit by appending it to the journal.
+     * Falls back to a full save if journaling fails, and compacts the journal into a full
+     * save once it grows long.
+     *
+     * @param edit The edit to persist.
+     */
+    private void persistEdit(TaskEdit edit) {
+        try {
+            storage.appendEdit(edit);
+            if (storage.getJournalEntryCount() >= JOURNAL_COMPACTION_THRESHOLD) {
+                saveTasksIfPossible();
+            }
+        } catch (MondayStorageException e) {
+            saveTasksIfPossible();
+        }
+    }
+
+    /**
+     * Saves tasks to storage if possible.
+     * Catches any storage exceptions and prints a warning to stderr.
+     */
+    private void saveTasksIfPossible() {
+        try {
+            storage.saveTasks(taskList.getTasks());
+        } catch (MondayStorageException e) {
+            System.err.println("Warning: " + e.getMessage());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package monday.command;
 
 import monday.storage.Storage;
 import monday.task.Task;
+import monday.task.TaskEdit;
 import monday.task.TaskList;
 import monday.ui.Ui;
 
@@ -40,8 +41,10 @@ public abstract class AddCommand extends Command {
 
         Task task = createTask();
         taskList.addTask(task);
+        TaskEdit edit = TaskEdit.added(taskList.getTaskCount(), task);
+        taskList.recordEdit(edit);
         ui.showTaskAdded(task, taskList.getTaskCount());
-        return new CommandResult(true, false);
+        return new CommandResult(true, false, edit);
     }
 
     /**
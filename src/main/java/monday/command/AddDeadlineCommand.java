@@ -33,4 +33,14 @@ public class AddDeadlineCommand extends AddCommand {
     protected Task createTask() {
         return new Deadline(description, by);
     }
+
+    /**
+     * Gets the type of this command.
+     *
+     * @return DEADLINE.
+     */
+    @Override
+    public CommandType getType() {
+        return CommandType.DEADLINE;
+    }
 }
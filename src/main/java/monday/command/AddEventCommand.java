@@ -36,4 +36,14 @@ public class AddEventCommand extends AddCommand {
     protected Task createTask() {
         return new Event(description, from, to);
     }
+
+    /**
+     * Gets the type of this command.
+     *
+     * @return EVENT.
+     */
+    @Override
+    public CommandType getType() {
+        return CommandType.EVENT;
+    }
 }
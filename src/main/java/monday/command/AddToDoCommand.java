@@ -27,4 +27,14 @@ public class AddToDoCommand extends AddCommand {
     protected Task createTask() {
         return new ToDo(description);
     }
+
+    /**
+     * Gets the type of this command.
+     *
+     * @return TODO.
+     */
+    @Override
+    public CommandType getType() {
+        return CommandType.TODO;
+    }
 }
@@ -87,4 +87,14 @@ public class CheerCommand extends Command {
         int index = (int) (Math.random() * quotes.size());
         return ANSI_YELLOW + quotes.get(index) + ANSI_RESET;
     }
+
+    /**
+     * Gets the type of this command.
+     *
+     * @return CHEER.
+     */
+    @Override
+    public CommandType getType() {
+        return CommandType.CHEER;
+    }
 }
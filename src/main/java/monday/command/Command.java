@@ -2,6 +2,7 @@ package monday.command;
 
 import monday.storage.Storage;
 import monday.task.TaskList;
+import monday.ui.PageRequest;
 import monday.ui.Ui;
 
 /**
@@ -28,4 +29,26 @@ public abstract class Command {
      * @return true if this command signals exit.
      */
     public abstract boolean isExit();
+
+    /**
+     * Gets the type of this command, as typed by the user.
+     *
+     * @return The command type.
+     */
+    public abstract CommandType getType();
+
+    /**
+     * Checks that the requested page exists for a listing of the given size.
+     *
+     * @param page The requested page.
+     * @param totalCount The number of tasks in the listing.
+     * @throws CommandException If the page is past the last page.
+     */
+    protected void checkPageExists(PageRequest page, int totalCount) throws CommandException {
+        if (!page.isWithin(totalCount)) {
+            int pageCount = page.getPageCount(totalCount);
+            String pages = pageCount == 1 ? "is only 1 page" : "are only " + pageCount + " pages";
+            throw new CommandException("Ugh, there " + pages + ". Try a smaller page number.");
+        }
+    }
 }
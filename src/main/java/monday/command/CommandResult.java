@@ -1,13 +1,17 @@
 package monday.command;
 
+import monday.task.TaskEdit;
+
 /**
  * Represents the result of executing a command.
- * Contains flags indicating whether to save tasks and/or exit the application.
+ * Contains flags indicating whether to save or reload tasks and/or exit the application.
  */
 public class CommandResult {
 
     private final boolean shouldSave;
     private final boolean shouldExit;
+    private final TaskEdit edit;
+    private final boolean shouldReload;
 
     /**
      * Creates a new command result.
@@ -16,8 +20,33 @@ public class CommandResult {
      * @param shouldExit true if the application should exit after this command.
      */
     public CommandResult(boolean shouldSave, boolean shouldExit) {
+        this(shouldSave, shouldExit, null);
+    }
+
+    /**
+     * Creates a new command result for a command that changed a single task.
+     *
+     * @param shouldSave true if tasks should be saved after this command.
+     * @param shouldExit true if the application should exit after this command.
+     * @param edit The change the command made, which can be persisted on its own.
+     */
+    public CommandResult(boolean shouldSave, boolean shouldExit, TaskEdit edit) {
         this.shouldSave = shouldSave;
         this.shouldExit = shouldExit;
+        this.edit = edit;
+        this.shouldReload = false;
+    }
+
+    /**
+     * Creates a new command result for a command that replaced the stored tasks.
+     *
+     * @param shouldReload true if tasks should be loaded from storage again after this command.
+     */
+    public CommandResult(boolean shouldReload) {
+        this.shouldSave = false;
+        this.shouldExit = false;
+        this.edit = null;
+        this.shouldReload = shouldReload;
     }
 
     /**
@@ -37,4 +66,22 @@ public class CommandResult {
     public boolean shouldExit() {
         return shouldExit;
     }
+
+    /**
+     * Checks if tasks should be loaded from storage again after this command.
+     *
+     * @return true if the stored tasks were replaced.
+     */
+    public boolean shouldReload() {
+        return shouldReload;
+    }
+
+    /**
+     * Returns the single-task change this command made, if any.
+     *
+     * @return The edit, or null if the command made no single-task change.
+     */
+    public TaskEdit getEdit() {
+        return edit;
+    }
 }
@@ -39,7 +39,19 @@ public enum CommandType {
     HELP("help"),
 
     /** Cheer command - displays a grumpy motivational quote */
-    CHEER("cheer");
+    CHEER("cheer"),
+
+    /** Undo command - reverts the most recent change */
+    UNDO("undo"),
+
+    /** Redo command - makes the most recently undone change again */
+    REDO("redo"),
+
+    /** Stats command - displays load, parse, execute and save timings */
+    STATS("stats"),
+
+    /** Restore command - lists backups, or replaces the tasks with one */
+    RESTORE("restore");
 
     private final String primaryCommand;
     private final String[] aliases;
@@ -74,6 +86,29 @@ public enum CommandType {
         return primaryCommand;
     }
 
+    /**
+     * Checks if commands of this type change the task list.
+     *
+     * @return true for commands that add, delete, mark or unmark tasks, undo or redo such changes,
+     *     or restore a backup over them.
+     */
+    public boolean changesTasks() {
+        switch (this) {
+        case TODO:
+        case DEADLINE:
+        case EVENT:
+        case DELETE:
+        case MARK:
+        case UNMARK:
+        case UNDO:
+        case REDO:
+        case RESTORE:
+            return true;
+        default:
+            return false;
+        }
+    }
+
     /**
      * Checks if the given input matches this command type.
      *
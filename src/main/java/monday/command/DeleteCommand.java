@@ -2,6 +2,7 @@ package monday.command;
 
 import monday.storage.Storage;
 import monday.task.Task;
+import monday.task.TaskEdit;
 import monday.task.TaskList;
 import monday.ui.Ui;
 
@@ -39,8 +40,10 @@ public class DeleteCommand extends Command {
         }
 
         Task deletedTask = taskList.deleteTask(taskNumber);
+        TaskEdit edit = TaskEdit.deleted(taskNumber, deletedTask);
+        taskList.recordEdit(edit);
         ui.showTaskDeleted(deletedTask, taskList.getTaskCount());
-        return new CommandResult(true, false);
+        return new CommandResult(true, false, edit);
     }
 
     /**
@@ -52,4 +55,14 @@ public class DeleteCommand extends Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Gets the type of this command.
+     *
+     * @return DELETE.
+     */
+    @Override
+    public CommandType getType() {
+        return CommandType.DELETE;
+    }
 }
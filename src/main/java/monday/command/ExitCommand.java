@@ -34,4 +34,14 @@ public class ExitCommand extends Command {
     public boolean isExit() {
         return true;
     }
+
+    /**
+     * Gets the type of this command.
+     *
+     * @return BYE.
+     */
+    @Override
+    public CommandType getType() {
+        return CommandType.BYE;
+    }
 }
@@ -1,42 +1,82 @@
 package monday.command;
 
 import monday.storage.Storage;
+import monday.task.SearchResult;
 import monday.task.Task;
 import monday.task.TaskList;
+import monday.ui.PageRequest;
 import monday.ui.Ui;
 
 import java.util.List;
 
 /**
  * Command to find tasks containing a specific keyword in their description.
- * Performs case-insensitive substring matching on task descriptions.
+ * Performs case-insensitive substring matching on task descriptions, or in ranked mode
+ * shows only the best few matches, tolerating prefixes and small typos.
  */
 public class FindCommand extends Command {
 
+    /** Number of tasks shown by a ranked search */
+    public static final int BEST_MATCH_LIMIT = 20;
+
     private final String keyword;
+    private final PageRequest page;
+    private final boolean isRanked;
 
     /**
-     * Creates a FindCommand with the specified search keyword.
+     * Creates a FindCommand with the specified search keyword, showing the first page.
      *
      * @param keyword The keyword to search for in task descriptions.
      */
     public FindCommand(String keyword) {
+        this(keyword, PageRequest.firstPage());
+    }
+
+    /**
+     * Creates a FindCommand with the specified search keyword and page.
+     *
+     * @param keyword The keyword to search for in task descriptions.
+     * @param page The page of matching tasks to show.
+     */
+    public FindCommand(String keyword, PageRequest page) {
+        this(keyword, page, false);
+    }
+
+    /**
+     * Creates a FindCommand that either pages through every match or shows only the best ones.
+     *
+     * @param keyword The keyword (or, when ranked, the words) to search for.
+     * @param page The page of matching tasks to show; ignored when ranked.
+     * @param isRanked true to show only the best matches, best first.
+     */
+    public FindCommand(String keyword, PageRequest page, boolean isRanked) {
         this.keyword = keyword;
+        this.page = page;
+        this.isRanked = isRanked;
     }
 
     /**
      * Executes the find command.
-     * Searches for tasks containing the keyword and displays matching tasks.
+     * Searches for tasks containing the keyword and displays matching tasks,
+     * or displays the best matches when ranked.
      *
      * @param taskList The task list to search.
      * @param ui The UI for displaying messages.
      * @param storage The storage (not used).
      * @return A command result indicating no save or exit needed.
+     * @throws CommandException If the requested page does not exist.
      */
     @Override
-    public CommandResult execute(TaskList taskList, Ui ui, Storage storage) {
+    public CommandResult execute(TaskList taskList, Ui ui, Storage storage) throws CommandException {
+        if (isRanked) {
+            SearchResult bestMatches = taskList.getBestMatches(keyword, BEST_MATCH_LIMIT);
+            ui.showBestMatches(bestMatches, keyword);
+            return new CommandResult(false, false);
+        }
+
         List<Task> matchingTasks = taskList.getFilteredTasks(keyword);
-        ui.showMatchingTasks(matchingTasks, keyword);
+        checkPageExists(page, matchingTasks.size());
+        ui.showMatchingTasks(matchingTasks, keyword, page);
         return new CommandResult(false, false);
     }
 
@@ -49,4 +89,14 @@ public class FindCommand extends Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Gets the type of this command.
+     *
+     * @return FIND.
+     */
+    @Override
+    public CommandType getType() {
+        return CommandType.FIND;
+    }
 }
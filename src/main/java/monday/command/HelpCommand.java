@@ -34,4 +34,14 @@ public class HelpCommand extends Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Gets the type of this command.
+     *
+     * @return HELP.
+     */
+    @Override
+    public CommandType getType() {
+        return CommandType.HELP;
+    }
 }
@@ -2,6 +2,7 @@ package monday.command;
 
 import monday.storage.Storage;
 import monday.task.TaskList;
+import monday.ui.PageRequest;
 import monday.ui.Ui;
 
 /**
@@ -10,18 +11,38 @@ import monday.ui.Ui;
  */
 public class ListCommand extends Command {
 
+    private final PageRequest page;
+
+    /**
+     * Creates a list command showing the first page.
+     */
+    public ListCommand() {
+        this(PageRequest.firstPage());
+    }
+
+    /**
+     * Creates a list command showing the given page.
+     *
+     * @param page The page of tasks to show.
+     */
+    public ListCommand(PageRequest page) {
+        this.page = page;
+    }
+
     /**
      * Executes the list command.
-     * Displays all tasks or a message if the list is empty.
+     * Displays the requested page of tasks or a message if the list is empty.
      *
      * @param taskList The task list to display.
      * @param ui The UI for displaying messages.
      * @param storage The storage (not used).
      * @return A command result indicating no save or exit needed.
+     * @throws CommandException If the requested page does not exist.
      */
     @Override
-    public CommandResult execute(TaskList taskList, Ui ui, Storage storage) {
-        ui.showTaskList(taskList.getTasks());
+    public CommandResult execute(TaskList taskList, Ui ui, Storage storage) throws CommandException {
+        checkPageExists(page, taskList.getTaskCount());
+        ui.showTaskList(taskList.getTasks(), page);
         return new CommandResult(false, false);
     }
 
@@ -34,4 +55,14 @@ public class ListCommand extends Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Gets the type of this command.
+     *
+     * @return LIST.
+     */
+    @Override
+    public CommandType getType() {
+        return CommandType.LIST;
+    }
 }
@@ -2,6 +2,7 @@ package monday.command;
 
 import monday.storage.Storage;
 import monday.task.Task;
+import monday.task.TaskEdit;
 import monday.task.TaskList;
 import monday.ui.Ui;
 
@@ -42,14 +43,17 @@ public class MarkCommand extends Command {
         }
 
         Task task = taskList.getTask(taskNumber);
+        boolean wasDone = task.isDone();
         if (markAsDone) {
             task.markAsDone();
         } else {
             task.markAsNotDone();
         }
 
+        TaskEdit edit = TaskEdit.marked(taskNumber, task, markAsDone, wasDone);
+        taskList.recordEdit(edit);
         ui.showTaskMarked(task, markAsDone);
-        return new CommandResult(true, false);
+        return new CommandResult(true, false, edit);
     }
 
     /**
@@ -61,4 +65,14 @@ public class MarkCommand extends Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Gets the type of this command.
+     *
+     * @return MARK or UNMARK, depending on which way this command marks the task.
+     */
+    @Override
+    public CommandType getType() {
+        return markAsDone ? CommandType.MARK : CommandType.UNMARK;
+    }
 }
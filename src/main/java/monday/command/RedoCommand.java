@@ -0,0 +1,54 @@
+package monday.command;
+
+import monday.storage.Storage;
+import monday.task.TaskEdit;
+import monday.task.TaskList;
+import monday.ui.Ui;
+
+/**
+ * Command to redo a change to the task list.
+ * Makes the most recently undone change again.
+ */
+public class RedoCommand extends Command {
+
+    /**
+     * Executes the redo command.
+     * Redoes the most recently undone change and reports the task it affected.
+     *
+     * @param taskList The task list to modify.
+     * @param ui The UI for displaying messages.
+     * @param storage The storage (not used).
+     * @return A command result carrying the applied edit so it can be persisted.
+     * @throws CommandException If there is nothing to redo.
+     */
+    @Override
+    public CommandResult execute(TaskList taskList, Ui ui, Storage storage) throws CommandException {
+        TaskEdit edit = taskList.redo();
+        if (edit == null) {
+            throw new CommandException("Ugh, there's nothing to redo.");
+        }
+
+        ui.showUndoRedo(edit, false, taskList.getTaskCount());
+        return new CommandResult(true, false, edit);
+    }
+
+    /**
+     * Checks if this command should exit the application.
+     *
+     * @return false, as this is not an exit command.
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * Gets the type of this command.
+     *
+     * @return REDO.
+     */
+    @Override
+    public CommandType getType() {
+        return CommandType.REDO;
+    }
+}
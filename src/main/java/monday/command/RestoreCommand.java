@@ -0,0 +1,81 @@
+package monday.command;
+
+import monday.exception.MondayStorageException;
+import monday.storage.Storage;
+import monday.task.TaskList;
+import monday.ui.Ui;
+
+import java.util.List;
+
+/**
+ * Command to list the backups of the saved tasks, or to replace the tasks with one of them.
+ * Backups are numbered newest first.
+ */
+public class RestoreCommand extends Command {
+
+    private final int backupNumber;
+
+    /**
+     * Creates a new RestoreCommand.
+     *
+     * @param backupNumber The 1-indexed number of the backup to restore, or 0 to list the backups.
+     */
+    public RestoreCommand(int backupNumber) {
+        this.backupNumber = backupNumber;
+    }
+
+    /**
+     * Executes the restore command.
+     * Lists the backups, or saves the current tasks and then restores the chosen backup over them.
+     *
+     * @param taskList The current tasks, saved before they are replaced.
+     * @param ui The UI for displaying messages.
+     * @param storage The storage holding the backups.
+     * @return A command result asking for the tasks to be loaded again if a backup was restored.
+     * @throws CommandException If the backup does not exist or cannot be restored.
+     */
+    @Override
+    public CommandResult execute(TaskList taskList, Ui ui, Storage storage) throws CommandException {
+        try {
+            List<String> backupNames = storage.getBackupNames();
+            if (backupNumber == 0) {
+                ui.showBackups(backupNames);
+                return new CommandResult(false, false);
+            }
+            if (backupNumber > backupNames.size()) {
+                throw new CommandException(backupNames.isEmpty()
+                        ? "Ugh, there are no backups yet. Save something first."
+                        : "Ugh, that backup doesn't exist. Pick between 1 and " + backupNames.size() + ".");
+            }
+
+            // Save first, so the backup taken just before restoring has every change
+            String backupName = backupNames.get(backupNumber - 1);
+            storage.saveTasks(taskList.getTasks());
+            storage.restoreBackup(backupName);
+            ui.showRestored(backupName);
+            return new CommandResult(true);
+        } catch (MondayStorageException e) {
+            throw new CommandException(e.getMessage());
+        }
+    }
+
+    /**
+     * Checks if this command should exit the application.
+     *
+     * @return false, as this is not an exit command.
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * Gets the type of this command.
+     *
+     * @return RESTORE.
+     */
+    @Override
+    public CommandType getType() {
+        return CommandType.RESTORE;
+    }
+}
@@ -0,0 +1,47 @@
+package monday.command;
+
+import monday.storage.Storage;
+import monday.task.TaskList;
+import monday.ui.Ui;
+import monday.util.Metrics;
+
+/**
+ * Command to display where time goes: load, parse, execute and save timings and counters.
+ */
+public class StatsCommand extends Command {
+
+    /**
+     * Executes the stats command.
+     * Displays the report of the shared metrics registry.
+     *
+     * @param taskList The task list (not used).
+     * @param ui The UI for displaying messages.
+     * @param storage The storage (not used).
+     * @return A command result indicating no save or exit needed.
+     */
+    @Override
+    public CommandResult execute(TaskList taskList, Ui ui, Storage storage) {
+        ui.showStats(Metrics.GLOBAL.getReport());
+        return new CommandResult(false, false);
+    }
+
+    /**
+     * Checks if this command should exit the application.
+     *
+     * @return false, as this is not an exit command.
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * Gets the type of this command.
+     *
+     * @return STATS.
+     */
+    @Override
+    public CommandType getType() {
+        return CommandType.STATS;
+    }
+}
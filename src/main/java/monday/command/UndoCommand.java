@@ -0,0 +1,54 @@
+package monday.command;
+
+import monday.storage.Storage;
+import monday.task.TaskEdit;
+import monday.task.TaskList;
+import monday.ui.Ui;
+
+/**
+ * Command to undo a change to the task list.
+ * Reverts the most recent add, delete, mark or unmark.
+ */
+public class UndoCommand extends Command {
+
+    /**
+     * Executes the undo command.
+     * Undoes the most recent change and reports the task it affected.
+     *
+     * @param taskList The task list to modify.
+     * @param ui The UI for displaying messages.
+     * @param storage The storage (not used).
+     * @return A command result carrying the applied edit so it can be persisted.
+     * @throws CommandException If there is nothing to undo.
+     */
+    @Override
+    public CommandResult execute(TaskList taskList, Ui ui, Storage storage) throws CommandException {
+        TaskEdit edit = taskList.undo();
+        if (edit == null) {
+            throw new CommandException("Ugh, there's nothing to undo.");
+        }
+
+        ui.showUndoRedo(edit, true, taskList.getTaskCount());
+        return new CommandResult(true, false, edit);
+    }
+
+    /**
+     * Checks if this command should exit the application.
+     *
+     * @return false, as this is not an exit command.
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * Gets the type of this command.
+     *
+     * @return UNDO.
+     */
+    @Override
+    public CommandType getType() {
+        return CommandType.UNDO;
+    }
+}
@@ -3,6 +3,7 @@ package monday.command;
 import monday.storage.Storage;
 import monday.task.Task;
 import monday.task.TaskList;
+import monday.ui.PageRequest;
 import monday.ui.Ui;
 
 import java.time.LocalDateTime;
@@ -15,14 +16,26 @@ import java.util.List;
 public class ViewCommand extends Command {
 
     private final LocalDateTime date;
+    private final PageRequest page;
 
     /**
-     * Creates a new view command.
+     * Creates a new view command showing the first page.
      *
      * @param date The date to view tasks for.
      */
     public ViewCommand(LocalDateTime date) {
+        this(date, PageRequest.firstPage());
+    }
+
+    /**
+     * Creates a new view command showing the given page.
+     *
+     * @param date The date to view tasks for.
+     * @param page The page of scheduled tasks to show.
+     */
+    public ViewCommand(LocalDateTime date, PageRequest page) {
         this.date = date;
+        this.page = page;
     }
 
     /**
@@ -33,11 +46,13 @@ public class ViewCommand extends Command {
      * @param ui The UI for displaying messages.
      * @param storage The storage (not used).
      * @return A command result indicating no save or exit needed.
+     * @throws CommandException If the requested page does not exist.
      */
     @Override
-    public CommandResult execute(TaskList taskList, Ui ui, Storage storage) {
+    public CommandResult execute(TaskList taskList, Ui ui, Storage storage) throws CommandException {
         List<Task> filteredTasks = taskList.filterTasksByDate(date);
-        ui.showFilteredTasks(filteredTasks, date);
+        checkPageExists(page, filteredTasks.size());
+        ui.showFilteredTasks(filteredTasks, date, page);
         return new CommandResult(false, false);
     }
 
@@ -50,4 +65,14 @@ public class ViewCommand extends Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Gets the type of this command.
+     *
+     * @return VIEW.
+     */
+    @Override
+    public CommandType getType() {
+        return CommandType.VIEW;
+    }
 }
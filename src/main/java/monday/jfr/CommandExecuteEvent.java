@@ -0,0 +1,29 @@
+package monday.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for executing one command against a task list.
+ */
+@Name("monday.CommandExecute")
+@Label("Command Execute")
+@Category({"MONDAY", "Commands"})
+@Description("Execution of one command, excluding saving its changes")
+@StackTrace(false)
+public class CommandExecuteEvent extends Event {
+
+    @Label("Command Type")
+    public String commandType;
+
+    @Label("Task Count")
+    @Description("Number of tasks after the command ran")
+    public int taskCount;
+
+    @Label("Succeeded")
+    public boolean isSuccessful;
+}
@@ -0,0 +1,26 @@
+package monday.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for turning one line of user input into a command.
+ */
+@Name("monday.CommandParse")
+@Label("Command Parse")
+@Category({"MONDAY", "Commands"})
+@Description("Parsing of one line of user input")
+@StackTrace(false)
+public class CommandParseEvent extends Event {
+
+    @Label("Command Type")
+    @Description("Type of the parsed command, or null if the input was rejected")
+    public String commandType;
+
+    @Label("Input Length")
+    public int inputLength;
+}
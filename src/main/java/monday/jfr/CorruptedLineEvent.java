@@ -0,0 +1,25 @@
+package monday.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a corrupted storage line being backed up and skipped.
+ */
+@Name("monday.CorruptedLineBackup")
+@Label("Corrupted Line Backup")
+@Category({"MONDAY", "Storage"})
+@Description("A storage line that could not be parsed, copied to the .corrupted file")
+@StackTrace(false)
+public class CorruptedLineEvent extends Event {
+
+    @Label("Line Number")
+    public int lineNumber;
+
+    @Label("Line Length")
+    public int lineLength;
+}
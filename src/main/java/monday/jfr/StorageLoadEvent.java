@@ -0,0 +1,36 @@
+package monday.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for loading tasks from storage, including journal replay.
+ */
+@Name("monday.StorageLoad")
+@Label("Storage Load")
+@Category({"MONDAY", "Storage"})
+@Description("Loading of the saved tasks and replay of journaled edits")
+@StackTrace(false)
+public class StorageLoadEvent extends Event {
+
+    @Label("Path")
+    public String path;
+
+    @Label("Task Count")
+    public int taskCount;
+
+    @Label("Bytes Read")
+    @DataAmount
+    public long bytes;
+
+    @Label("Corrupted Lines")
+    public int corruptedLineCount;
+
+    @Label("Journal Entries")
+    public int journalEntryCount;
+}
@@ -0,0 +1,30 @@
+package monday.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a full save of all tasks to storage.
+ */
+@Name("monday.StorageSave")
+@Label("Storage Save")
+@Category({"MONDAY", "Storage"})
+@Description("Full save of all tasks, which also clears the journal")
+@StackTrace(false)
+public class StorageSaveEvent extends Event {
+
+    @Label("Path")
+    public String path;
+
+    @Label("Task Count")
+    public int taskCount;
+
+    @Label("Bytes Written")
+    @DataAmount
+    public long bytes;
+}
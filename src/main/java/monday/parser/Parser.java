@@ -12,15 +12,27 @@ import monday.command.FindCommand;
 import monday.command.HelpCommand;
 import monday.command.ListCommand;
 import monday.command.MarkCommand;
+import monday.command.RedoCommand;
+import monday.command.RestoreCommand;
+import monday.command.StatsCommand;
+import monday.command.UndoCommand;
 import monday.command.ViewCommand;
 import monday.exception.ParseException;
+import monday.jfr.CommandParseEvent;
+import monday.task.DescriptionPool;
 import monday.task.TaskPrefix;
+import monday.ui.PageRequest;
 import monday.util.DateTimeParser;
+import monday.util.LatencyHistogram;
+import monday.util.Metrics;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Parses user input into Command objects.
@@ -28,10 +40,31 @@ import java.time.format.DateTimeParseException;
  */
 public class Parser {
 
-    private static final DateTimeFormatter VIEW_INPUT_FORMATTER_1 =
-            DateTimeFormatter.ofPattern("yyyy-MM-dd");
-    private static final DateTimeFormatter VIEW_INPUT_FORMATTER_2 =
-            DateTimeFormatter.ofPattern("d/M/yyyy");
+    private static final String PAGE_OPTION = "--page";
+    private static final String PAGE_SIZE_OPTION = "--page-size";
+    private static final String BEST_OPTION = "--best";
+    private static final Pattern TRAILING_PAGE_OPTION =
+            Pattern.compile("(?:^|\\s+)(--page-size|--page)\\s+(\\S+)\\s*$");
+
+    private static final LatencyHistogram PARSE_TIMER = Metrics.GLOBAL.timer("command.parse");
+
+    private final DescriptionPool descriptionPool;
+
+    /**
+     * Creates a parser that keeps every task description separate.
+     */
+    public Parser() {
+        this(null);
+    }
+
+    /**
+     * Creates a parser that deduplicates the descriptions of new tasks through a pool.
+     *
+     * @param descriptionPool The pool for new descriptions, or null to keep every description separate.
+     */
+    public Parser(DescriptionPool descriptionPool) {
+        this.descriptionPool = descriptionPool;
+    }
 
     /**
      * Parses user input into a Command object.
@@ -41,6 +74,31 @@ public class Parser {
      * @throws ParseException If the input cannot be parsed.
      */
     public Command parseCommand(String userInput) throws ParseException {
+        long startTime = System.nanoTime();
+        CommandParseEvent event = new CommandParseEvent();
+        event.begin();
+        Command command = null;
+        try {
+            command = createCommand(userInput);
+            return command;
+        } finally {
+            PARSE_TIMER.record(System.nanoTime() - startTime);
+            if (event.shouldCommit()) {
+                event.commandType = command == null ? null : command.getType().name();
+                event.inputLength = userInput == null ? 0 : userInput.length();
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Creates the command described by the user input.
+     *
+     * @param userInput The raw user input string.
+     * @return The command to execute.
+     * @throws ParseException If the input is invalid.
+     */
+    private Command createCommand(String userInput) throws ParseException {
         if (userInput == null || userInput.trim().isEmpty()) {
             throw new ParseException("Ugh, you didn't actually say anything. Try again.");
         }
@@ -56,7 +114,7 @@ public class Parser {
         case BYE:
             return new ExitCommand();
         case LIST:
-            return new ListCommand();
+            return parseListCommand(userInput);
         case HELP:
             return new HelpCommand();
         case MARK:
@@ -69,6 +127,14 @@ public class Parser {
             return parseFindCommand(userInput);
         case CHEER:
             return new CheerCommand();
+        case UNDO:
+            return new UndoCommand();
+        case REDO:
+            return new RedoCommand();
+        case STATS:
+            return new StatsCommand();
+        case RESTORE:
+            return parseRestoreCommand(userInput);
         case TODO:
             return parseToDoCommand(userInput);
         case DEADLINE:
@@ -82,6 +148,25 @@ public class Parser {
         }
     }
 
+    /**
+     * Parses a list command.
+     * Accepts an optional bare page number and the --page and --page-size options.
+     *
+     * @param userInput The user input.
+     * @return A ListCommand.
+     * @throws ParseException If parsing fails.
+     */
+    private Command parseListCommand(String userInput) throws ParseException {
+        StringBuilder rest = new StringBuilder(extractDescription(userInput, CommandType.LIST.getCommand()));
+        PageRequest page = extractPageRequest(rest, "list");
+
+        String pageNumber = rest.toString().trim();
+        if (!pageNumber.isEmpty()) {
+            page = new PageRequest(parsePageValue(pageNumber, PAGE_OPTION, "list"), page.getPageSize());
+        }
+        return new ListCommand(page);
+    }
+
     /**
      * Parses a mark command.
      *
@@ -139,7 +224,7 @@ public class Parser {
         if (description.isEmpty()) {
             throw new ParseException("Ugh, a todo needs a description. Try 'todo borrow book'.");
         }
-        return new AddToDoCommand(description);
+        return new AddToDoCommand(pooled(description));
     }
 
     /**
@@ -170,7 +255,7 @@ public class Parser {
 
         try {
             LocalDateTime byDateTime = DateTimeParser.parseDateTime(by);
-            return new AddDeadlineCommand(description, byDateTime);
+            return new AddDeadlineCommand(pooled(description), byDateTime);
         } catch (DateTimeParseException e) {
             throw new ParseException("Ugh, I can't understand that date. "
                     + "Try 'yyyy-MM-dd HHmm' or 'd/M/yyyy HHmm' format.");
@@ -223,7 +308,7 @@ public class Parser {
         try {
             LocalDateTime fromDateTime = DateTimeParser.parseDateTime(from);
             LocalDateTime toDateTime = DateTimeParser.parseDateTime(to);
-            return new AddEventCommand(description, fromDateTime, toDateTime);
+            return new AddEventCommand(pooled(description), fromDateTime, toDateTime);
         } catch (DateTimeParseException e) {
             throw new ParseException("Ugh, I can't understand that date. "
                     + "Try 'yyyy-MM-dd HHmm' or 'd/M/yyyy HHmm' format.");
@@ -247,9 +332,13 @@ public class Parser {
             throw new ParseException("Ugh, what date do you want to view? Try 'view 2019-12-25'.");
         }
 
+        StringBuilder rest = new StringBuilder(dateString);
+        PageRequest page = extractPageRequest(rest, "view 2019-12-25");
+        dateString = rest.toString().trim();
+
         try {
             LocalDateTime targetDate = parseViewDate(dateString);
-            return new ViewCommand(targetDate);
+            return new ViewCommand(targetDate, page);
         } catch (DateTimeParseException e) {
             throw new ParseException("Ugh, I can't understand that date. "
                     + "Try 'yyyy-MM-dd' or 'd/M/yyyy' format.");
@@ -258,19 +347,50 @@ public class Parser {
 
     /**
      * Parses a find command.
+     * A trailing --best asks for the best matches only, ranked and typo-tolerant.
      *
      * @param userInput The user input.
      * @return A FindCommand.
      * @throws ParseException If parsing fails.
      */
     private Command parseFindCommand(String userInput) throws ParseException {
-        String keyword = extractDescription(userInput, CommandType.FIND.getCommand()).trim();
+        StringBuilder rest = new StringBuilder(extractDescription(userInput, CommandType.FIND.getCommand()));
+        PageRequest page = extractPageRequest(rest, "find book");
+        String keyword = rest.toString().trim();
+
+        boolean isRanked = keyword.equals(BEST_OPTION) || keyword.endsWith(" " + BEST_OPTION);
+        if (isRanked) {
+            if (page.getPageNumber() != 1 || page.getPageSize() != PageRequest.DEFAULT_PAGE_SIZE) {
+                throw new ParseException("Ugh, " + BEST_OPTION + " only shows the best "
+                        + FindCommand.BEST_MATCH_LIMIT + ". There are no pages.");
+            }
+            keyword = keyword.substring(0, keyword.length() - BEST_OPTION.length()).trim();
+        }
 
         if (keyword.isEmpty()) {
             throw new ParseException("Ugh, find what? Try 'find book'.");
         }
 
-        return new FindCommand(keyword);
+        return new FindCommand(keyword, page, isRanked);
+    }
+
+    /**
+     * Parses a restore command.
+     * Without a number, the command lists the backups instead.
+     *
+     * @param userInput The user input.
+     * @return A RestoreCommand.
+     * @throws ParseException If the backup number is invalid.
+     */
+    private Command parseRestoreCommand(String userInput) throws ParseException {
+        if (isCommandOnlyInput(userInput, CommandType.RESTORE)) {
+            return new RestoreCommand(0);
+        }
+        int backupNumber = parseTaskNumber(userInput, "restore");
+        if (backupNumber < 1) {
+            throw new ParseException("Ugh, backups are numbered from 1. Try 'restore 1'.");
+        }
+        return new RestoreCommand(backupNumber);
     }
 
     /**
@@ -306,28 +426,84 @@ public class Parser {
         }
     }
 
+    /**
+     * Removes trailing --page and --page-size options from the arguments and builds a page request.
+     * Options are only taken from the end so keywords containing them elsewhere are left intact.
+     *
+     * @param arguments The command arguments; trailing options are removed in place.
+     * @param example The example usage for error messages.
+     * @return The requested page, defaulting to the first page with the default size.
+     * @throws ParseException If an option value is not a valid number, or an option is given twice.
+     */
+    private PageRequest extractPageRequest(StringBuilder arguments, String example) throws ParseException {
+        int pageNumber = 1;
+        int pageSize = PageRequest.DEFAULT_PAGE_SIZE;
+        Set<String> seenOptions = new HashSet<>();
+
+        Matcher matcher = TRAILING_PAGE_OPTION.matcher(arguments);
+        while (matcher.find()) {
+            String option = matcher.group(1);
+            if (!seenOptions.add(option)) {
+                throw new ParseException("Ugh, " + option + " twice? Make up your mind and give it once.");
+            }
+            int value = parsePageValue(matcher.group(2), option, example);
+            if (option.equals(PAGE_SIZE_OPTION)) {
+                if (value > PageRequest.MAX_PAGE_SIZE) {
+                    throw new ParseException("Ugh, I'm not showing more than " + PageRequest.MAX_PAGE_SIZE
+                            + " tasks at once.");
+                }
+                pageSize = value;
+            } else {
+                pageNumber = value;
+            }
+            arguments.setLength(matcher.start());
+            matcher.reset(arguments);
+        }
+        return new PageRequest(pageNumber, pageSize);
+    }
+
+    /**
+     * Parses a positive page number or page size.
+     *
+     * @param value The value to parse.
+     * @param option The option the value belongs to, for error messages.
+     * @param example The example usage for error messages.
+     * @return The parsed value.
+     * @throws ParseException If the value is not a positive number.
+     */
+    private int parsePageValue(String value, String option, String example) throws ParseException {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed >= 1) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through to the error below
+        }
+        throw new ParseException("Ugh, " + option + " needs a number from 1 up. Try '" + example + " "
+                + option + " 2'.");
+    }
+
     /**
      * Parses a date string for the view command.
-     * Tries multiple formats: yyyy-MM-dd, then d/M/yyyy.
+     * Accepts the formats yyyy-MM-dd and d/M/yyyy.
      *
      * @param dateString The date string to parse.
      * @return The parsed LocalDateTime (time set to midnight).
      * @throws DateTimeParseException If the string cannot be parsed with any format.
      */
     private LocalDateTime parseViewDate(String dateString) throws DateTimeParseException {
-        try {
-            LocalDate date = LocalDate.parse(dateString, VIEW_INPUT_FORMATTER_1);
-            return date.atStartOfDay();
-        } catch (DateTimeParseException e) {
-            try {
-                LocalDate date = LocalDate.parse(dateString, VIEW_INPUT_FORMATTER_2);
-                return date.atStartOfDay();
-            } catch (DateTimeParseException e2) {
-                throw new DateTimeParseException(
-                        "Ugh, I can't understand that date. Try 'yyyy-MM-dd' or 'd/M/yyyy' format.",
-                        dateString, 0);
-            }
-        }
+        return DateTimeParser.parseDate(dateString).atStartOfDay();
+    }
+
+    /**
+     * Returns the pooled instance of a task description, if this parser has a pool.
+     *
+     * @param description The description of a new task.
+     * @return An equal description, shared with existing tasks where possible.
+     */
+    private String pooled(String description) {
+        return descriptionPool == null ? description : descriptionPool.intern(description);
     }
 
     /**
@@ -355,8 +531,8 @@ public class Parser {
             return "";
         }
         int spaceIndex = trimmed.indexOf(' ');
-        return spaceIndex == -1 ? trimmed.toLowerCase()
-                                : trimmed.substring(0, spaceIndex).toLowerCase();
+        return spaceIndex == -1 ? trimmed.toLowerCase(Locale.ROOT)
+                                : trimmed.substring(0, spaceIndex).toLowerCase(Locale.ROOT);
     }
 
     /**
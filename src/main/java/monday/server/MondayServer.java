@@ -0,0 +1,356 @@
+package monday.server;
+
+import monday.Session;
+import monday.parser.Parser;
+import monday.storage.FileStorage;
+import monday.storage.Storage;
+import monday.task.DescriptionPool;
+import monday.ui.NullSink;
+import monday.ui.Ui;
+import monday.util.LatencyHistogram;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * Headless MONDAY server that serves many users' task lists over a local TCP socket.
+ * Each connection is handled on its own virtual thread, so thousands of mostly idle
+ * connections cost little more than their sockets.
+ *
+ * <p>The protocol is line-oriented. The first line must be {@code user <name>}; every line
+ * after that is a command, exactly as typed in the GUI. Each reply is one or more lines
+ * ended by a line holding a single {@code .}, and reply lines that start with {@code .}
+ * get an extra {@code .} in front (as in SMTP).
+ *
+ * <p>Every user has one {@link Session}, stored in {@code <dataRoot>/users/<name>/monday.txt}
+ * and shared by all of that user's connections. It is loaded on the user's first connection
+ * and saved when their last connection closes.
+ */
+public class MondayServer implements AutoCloseable {
+
+    /** Port used when none is given */
+    public static final int DEFAULT_PORT = 7070;
+
+    private static final Pattern USER_NAME = Pattern.compile("[A-Za-z0-9_-]{1,32}");
+    private static final String LOGIN_PREFIX = "user ";
+    private static final String END_OF_REPLY = ".";
+    private static final String FILE_NAME = "monday.txt";
+    private static final int DESCRIPTION_POOL_CAPACITY = 65536;
+    private static final long REPORT_INTERVAL_SECONDS = 60;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final Path dataRoot;
+    private final int requestedPort;
+    private final DescriptionPool descriptionPool = new DescriptionPool(DESCRIPTION_POOL_CAPACITY);
+    private final Map<String, UserSession> sessions = new ConcurrentHashMap<>();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    private ServerSocket serverSocket;
+    private ExecutorService connectionExecutor;
+    private ScheduledExecutorService reportExecutor;
+    private Thread acceptThread;
+
+    /**
+     * Creates a new server. Call start to begin accepting connections.
+     *
+     * @param dataRoot The directory holding every user's data.
+     * @param port The port to listen on, or 0 to pick a free one.
+     */
+    public MondayServer(Path dataRoot, int port) {
+        assert port >= 0 : "Port should not be negative";
+        this.dataRoot = dataRoot;
+        this.requestedPort = port;
+    }
+
+    /**
+     * Binds to the loopback interface and starts accepting connections in the background.
+     *
+     * @throws IOException If the port cannot be bound.
+     */
+    public synchronized void start() throws IOException {
+        assert serverSocket == null : "Server should only be started once";
+        serverSocket = new ServerSocket();
+        serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), requestedPort));
+
+        connectionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        reportExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "monday-latency-report");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reportExecutor.scheduleAtFixedRate(this::reportLatency,
+                REPORT_INTERVAL_SECONDS, REPORT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+
+        acceptThread = Thread.ofPlatform().name("monday-accept").start(this::acceptConnections);
+    }
+
+    /**
+     * Gets the port the server is listening on.
+     *
+     * @return The bound port.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Gets the histogram of command latencies, measured from reading a command to having its reply.
+     *
+     * @return The latency histogram.
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * Gets the number of users with at least one open connection.
+     *
+     * @return The number of active users.
+     */
+    public int getActiveUserCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Stops accepting connections and closes open ones, which saves every active session.
+     * Reports the final latency percentiles.
+     */
+    @Override
+    public synchronized void close() {
+        if (serverSocket == null) {
+            return;
+        }
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            System.err.println("Warning: " + e.getMessage());
+        }
+        for (UserSession userSession : sessions.values()) {
+            userSession.closeAllConnections();
+        }
+        connectionExecutor.shutdown();
+        try {
+            acceptThread.join();
+            if (!connectionExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                connectionExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        reportExecutor.shutdownNow();
+        reportLatency();
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connectionExecutor.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    System.err.println("Warning: " + e.getMessage());
+                }
+            } catch (RejectedExecutionException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Serves one connection: logs the user in, then answers commands until the client
+     * disconnects or says bye.
+     */
+    private void serve(Socket socket) {
+        try (socket;
+                BufferedReader in = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                BufferedWriter out = new BufferedWriter(
+                        new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            String userName = readLogin(in, out);
+            if (userName == null) {
+                return;
+            }
+
+            UserSession userSession = acquire(userName, socket);
+            try {
+                writeReply(out, userSession.greeting);
+                serveCommands(userSession, in, out);
+            } finally {
+                release(userName, socket);
+            }
+        } catch (SocketException e) {
+            // Client went away or the server is stopping; nothing to report
+        } catch (IOException e) {
+            System.err.println("Warning: " + e.getMessage());
+        }
+    }
+
+    private void serveCommands(UserSession userSession, BufferedReader in, BufferedWriter out)
+            throws IOException {
+        String line;
+        while ((line = in.readLine()) != null) {
+            long startTime = System.nanoTime();
+            String response;
+            boolean isExit;
+            // The user's lock keeps another connection's command from landing between the two calls
+            userSession.lock.lock();
+            try {
+                response = userSession.session.getResponse(line.trim());
+                isExit = userSession.session.isExitRequested();
+            } finally {
+                userSession.lock.unlock();
+            }
+            latency.record(System.nanoTime() - startTime);
+
+            writeReply(out, response);
+            if (isExit) {
+                return;
+            }
+        }
+    }
+
+    private String readLogin(BufferedReader in, BufferedWriter out) throws IOException {
+        String line = in.readLine();
+        if (line == null) {
+            return null;
+        }
+        line = line.trim();
+        String userName = line.startsWith(LOGIN_PREFIX) ? line.substring(LOGIN_PREFIX.length()).trim() : "";
+        if (!USER_NAME.matcher(userName).matches()) {
+            writeReply(out, "Ugh, tell me who you are first: user <name>\n"
+                    + "(letters, digits, '-' and '_' only, up to 32 of them)");
+            return null;
+        }
+        return userName;
+    }
+
+    /**
+     * Adds a connection to the user's session, loading the session if it is the user's first.
+     * The map only ever installs an empty holder; loading happens under the holder's own lock, so
+     * the disk is never touched while holding the map's locks, which other users' keys share.
+     */
+    private UserSession acquire(String userName, Socket socket) {
+        while (true) {
+            UserSession userSession = sessions.computeIfAbsent(userName, name -> new UserSession());
+            userSession.lock.lock();
+            try {
+                if (userSession.isClosed) {
+                    continue; // Saved and removed by the last connection meanwhile; start afresh
+                }
+                if (userSession.session == null) {
+                    openSession(userName, userSession);
+                }
+                userSession.connections.add(socket);
+                return userSession;
+            } finally {
+                userSession.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Removes a connection from the user's session, saving and dropping the session if it was the last.
+     * The session is saved before it leaves the map, so a new connection waits for the save and then
+     * loads what was saved.
+     */
+    private void release(String userName, Socket socket) {
+        UserSession userSession = sessions.get(userName);
+        if (userSession == null) {
+            return;
+        }
+        userSession.lock.lock();
+        try {
+            userSession.connections.remove(socket);
+            if (!userSession.connections.isEmpty()) {
+                return;
+            }
+            userSession.isClosed = true;
+            try {
+                userSession.session.close();
+            } finally {
+                sessions.remove(userName, userSession);
+            }
+        } finally {
+            userSession.lock.unlock();
+        }
+    }
+
+    private void openSession(String userName, UserSession userSession) {
+        Ui ui = new Ui(new NullSink());
+        String userDir = dataRoot.resolve("users").resolve(userName).toString();
+        Storage storage = new FileStorage(userDir, FILE_NAME, descriptionPool);
+        Session session = new Session(ui, storage, new Parser(descriptionPool));
+        session.loadTasks();
+
+        String greeting = ui.getGreetingForGui();
+        String corruptionMessage = ui.getLastResponse();
+        if (session.hasCorruption() && corruptionMessage != null) {
+            greeting = greeting + "\n" + corruptionMessage;
+        }
+        userSession.session = session;
+        userSession.greeting = greeting;
+    }
+
+    private static void writeReply(BufferedWriter out, String reply) throws IOException {
+        for (String line : reply.split("\r\n|\r|\n", -1)) {
+            if (line.startsWith(END_OF_REPLY)) {
+                out.write(END_OF_REPLY);
+            }
+            out.write(line);
+            out.write('\n');
+        }
+        out.write(END_OF_REPLY);
+        out.write('\n');
+        out.flush();
+    }
+
+    private void reportLatency() {
+        if (latency.getCount() > 0) {
+            System.err.println("MONDAY server: " + getActiveUserCount() + " active users, "
+                    + latency.getSummary());
+        }
+    }
+
+    /**
+     * A user's session together with the connections currently using it.
+     * The session is loaded, used and saved only while holding the lock, which unlike a monitor
+     * lets a waiting virtual thread give up its carrier thread.
+     */
+    private static final class UserSession {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+        private Session session;
+        private String greeting;
+        private boolean isClosed;
+
+        private void closeAllConnections() {
+            for (Socket socket : connections) {
+                try {
+                    socket.close();
+                } catch (IOException e) {
+                    // Already closed; the session is saved when the connection is released
+                }
+            }
+        }
+    }
+}
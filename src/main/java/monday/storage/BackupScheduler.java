@@ -0,0 +1,212 @@
+package monday.storage;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Keeps timestamped copies of a file in a backup directory, and deletes all but the most recent few.
+ * Copies are made on a background thread, periodically and whenever asked, so whoever asks never
+ * waits for the disk. A copy is only made if the file changed since the last one.
+ *
+ * <p>Copies go through FileChannel.transferTo, so the kernel moves the bytes without them passing
+ * through the JVM. A copy is discarded if the file changed while it was being made.
+ */
+public class BackupScheduler {
+
+    private static final DateTimeFormatter STAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
+    private final Path source;
+    private final Path backupDir;
+    private final String namePrefix;
+    private final int generations;
+    private final AtomicBoolean isBackupPending = new AtomicBoolean();
+    private final Object copyLock = new Object();
+    private volatile ScheduledExecutorService executor;
+    private BasicFileAttributes lastBackedUp;
+
+    /**
+     * Creates a new BackupScheduler. Nothing is copied in the background until start is called.
+     *
+     * @param source The file to back up.
+     * @param backupDir The directory to keep copies in.
+     * @param generations The number of copies to keep.
+     */
+    public BackupScheduler(Path source, Path backupDir, int generations) {
+        assert generations > 0 : "Should keep at least one backup";
+        this.source = source;
+        this.backupDir = backupDir;
+        this.namePrefix = source.getFileName() + ".";
+        this.generations = generations;
+    }
+
+    /**
+     * Starts copying the file periodically on a daemon thread.
+     *
+     * @param intervalSeconds The time between copies.
+     */
+    public synchronized void start(long intervalSeconds) {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(
+                runnable -> Thread.ofPlatform().name("monday-backup").daemon().unstarted(runnable));
+        executor.scheduleWithFixedDelay(this::backUpQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Asks for a copy soon, on the background thread. Requests made before it runs share one copy.
+     * Does nothing if the scheduler was not started.
+     */
+    public void requestBackup() {
+        ScheduledExecutorService backupExecutor = executor;
+        if (backupExecutor == null || !isBackupPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            backupExecutor.execute(() -> {
+                isBackupPending.set(false);
+                backUpQuietly();
+            });
+        } catch (RejectedExecutionException e) {
+            isBackupPending.set(false); // Closed meanwhile
+        }
+    }
+
+    private void backUpQuietly() {
+        try {
+            backUp();
+        } catch (IOException e) {
+            System.err.println("Warning: Ugh, I couldn't back up your tasks. " + e.getMessage());
+        }
+    }
+
+    /**
+     * Copies the file now, if it changed since the last copy, then deletes the oldest copies.
+     *
+     * @return The new copy, or null if the file is missing, unchanged, or changed while being copied.
+     * @throws IOException If the copy cannot be made.
+     */
+    public Path backUp() throws IOException {
+        synchronized (copyLock) {
+            return copyIfChanged();
+        }
+    }
+
+    private Path copyIfChanged() throws IOException {
+        BasicFileAttributes before;
+        try {
+            before = Files.readAttributes(source, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        if (lastBackedUp != null && isSameVersion(before, lastBackedUp)) {
+            return null;
+        }
+
+        Files.createDirectories(backupDir);
+        String stamp = namePrefix + LocalDateTime.now().format(STAMP_FORMAT);
+        String name = stamp;
+        for (int i = 1; Files.exists(backupDir.resolve(name)); i++) {
+            name = stamp + "-" + i; // Two copies within a millisecond
+        }
+        Path temp = backupDir.resolve(name + TEMP_SUFFIX);
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+                FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                position += in.transferTo(position, size - position, out);
+            }
+            out.force(true);
+        } catch (NoSuchFileException e) {
+            Files.deleteIfExists(temp);
+            return null; // Replaced just now; the save that did it asks for another copy
+        }
+
+        BasicFileAttributes after = Files.readAttributes(source, BasicFileAttributes.class);
+        if (!isSameVersion(before, after)) {
+            Files.deleteIfExists(temp);
+            return null;
+        }
+        Path backup = backupDir.resolve(name);
+        Files.move(temp, backup, StandardCopyOption.ATOMIC_MOVE);
+        lastBackedUp = after;
+        deleteOldBackups();
+        return backup;
+    }
+
+    /**
+     * Lists the copies, newest first.
+     *
+     * @return The copies.
+     * @throws IOException If the backup directory cannot be read.
+     */
+    public List<Path> getBackups() throws IOException {
+        if (!Files.isDirectory(backupDir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(backupDir)) {
+            return files.filter(this::isBackup)
+                    .sorted(Comparator.comparing((Path path) -> path.getFileName().toString()).reversed())
+                    .toList();
+        }
+    }
+
+    private boolean isBackup(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(namePrefix) && !name.endsWith(TEMP_SUFFIX);
+    }
+
+    private void deleteOldBackups() throws IOException {
+        List<Path> backups = new ArrayList<>(getBackups());
+        for (Path backup : backups.subList(Math.min(generations, backups.size()), backups.size())) {
+            Files.deleteIfExists(backup);
+        }
+    }
+
+    private static boolean isSameVersion(BasicFileAttributes a, BasicFileAttributes b) {
+        return a.size() == b.size() && a.lastModifiedTime().equals(b.lastModifiedTime())
+                && Objects.equals(a.fileKey(), b.fileKey());
+    }
+
+    /**
+     * Stops copying in the background, first letting a requested copy finish.
+     */
+    public void close() {
+        ScheduledExecutorService stopped;
+        synchronized (this) {
+            stopped = executor;
+            executor = null;
+        }
+        if (stopped == null) {
+            return;
+        }
+        stopped.shutdown();
+        try {
+            stopped.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
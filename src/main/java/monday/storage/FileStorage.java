@@ -0,0 +1,1297 @@
+package monday.storage;
+
+import monday.exception.MondayStorageException;
+import monday.jfr.CorruptedLineEvent;
+import monday.jfr.StorageLoadEvent;
+import monday.jfr.StorageSaveEvent;
+import monday.task.Deadline;
+import monday.task.DescriptionPool;
+import monday.task.Event;
+import monday.task.LoadResult;
+import monday.task.Task;
+import monday.task.TaskEdit;
+import monday.task.TaskList;
+import monday.task.ToDo;
+import monday.util.DateTimeParser;
+import monday.util.LatencyHistogram;
+import monday.util.Metrics;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stores MONDAY's task list in a text file, one task per line, with single edits
+ * appended to a journal file next to it until the next full save.
+ *
+ * <p>Only one process at a time may write: the first to load takes an exclusive lock on
+ * {@code <file>.lock}, and any other opens the tasks read-only. A read-only storage follows the
+ * writer through the version stamp in {@code <file>.version}, which names the last full save, and
+ * by reading only the journal entries appended since it last looked. Once the writer exits, the
+ * next read-only storage to look takes over the lock.
+ *
+ * <p>The file may also be edited by hand while MONDAY runs. The storage remembers a hash of every
+ * line it last read or wrote, so an edited file is compared line by line and only the lines that
+ * changed are parsed again.
+ *
+ * <p>Once started, backups of the storage file are copied into {@code backups/} in the data
+ * directory in the background after each full save, and any of them can be restored.
+ */
+public class FileStorage implements Storage {
+
+    /** Number of backups kept in {@code backups/} next to the storage file */
+    public static final int BACKUP_GENERATIONS = 10;
+
+    private static final String CORRUPTED_LINE_MESSAGE = "Ugh. Skipping corrupted line ";
+    private static final String LINE_BREAK = "\\r\\n|\\r|\\n";
+    private static final String JOURNAL_HEADER_PREFIX = "# snapshot ";
+    private static final String READ_ONLY_MESSAGE =
+            "Ugh. Another MONDAY has these tasks open, so I'm read-only. Close it first.";
+    private static final long UNKNOWN_CHECKSUM = -1;
+    // Beyond this many, hand edits are loaded as a whole, since each edit copies the task list
+    private static final int MAX_HAND_EDITS = 256;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final int GZIP_MAGIC_FIRST = 0x1f;
+    private static final int GZIP_MAGIC_SECOND = 0x8b;
+    private static final int COMPRESSION_LEVEL = Deflater.BEST_SPEED;
+
+    private static final LatencyHistogram LOAD_TIMER = Metrics.GLOBAL.timer("storage.load");
+    private static final LatencyHistogram SAVE_TIMER = Metrics.GLOBAL.timer("storage.save");
+    private static final LatencyHistogram JOURNAL_TIMER = Metrics.GLOBAL.timer("storage.journal");
+    private static final LongAdder LINES_PARSED = Metrics.GLOBAL.counter("storage.load.lines");
+    private static final LongAdder CORRUPTED_LINES = Metrics.GLOBAL.counter("storage.load.corrupted");
+    private static final LongAdder TASKS_SAVED = Metrics.GLOBAL.counter("storage.save.tasks");
+
+    private final String dataDirName;
+    private final String fileName;
+    private final Path dataDir;
+    private final Path filePath;
+    private final Path corruptedFilePath;
+    private final Path journalPath;
+    private final Path lockPath;
+    private final Path versionPath;
+    private final DescriptionPool descriptionPool;
+    private final BackupScheduler backups;
+    // Counted here rather than in the pool, which other storages and the parser may share
+    private final LongAdder deduplicatedBytes = new LongAdder();
+    private boolean isCompressed;
+    private long backupIntervalSeconds;
+    private LoadResult lastLoadResult;
+    private long snapshotChecksum = UNKNOWN_CHECKSUM;
+    private int journalEntryCount;
+    private long journalOffset;
+
+    // Lines of the storage file as last read or written, or null if the tasks are stored elsewhere
+    private SnapshotLines snapshotLines;
+    private long snapshotSize;
+    private long snapshotModifiedTime;
+
+    private FileChannel lockChannel;
+    private FileLock lock;
+
+    /**
+     * Creates a new FileStorage instance with the specified data directory and file name.
+     *
+     * @param dataDirName The name of the data directory.
+     * @param fileName The name of the storage file.
+     */
+    public FileStorage(String dataDirName, String fileName) {
+        this(dataDirName, fileName, null);
+    }
+
+    /**
+     * Creates a new FileStorage instance that deduplicates loaded descriptions through a pool.
+     *
+     * @param dataDirName The name of the data directory.
+     * @param fileName The name of the storage file.
+     * @param descriptionPool The pool for loaded descriptions, or null to keep every description separate.
+     */
+    public FileStorage(String dataDirName, String fileName, DescriptionPool descriptionPool) {
+        this.dataDirName = dataDirName;
+        this.fileName = fileName;
+        this.dataDir = Paths.get(dataDirName);
+        this.filePath = dataDir.resolve(fileName);
+        this.corruptedFilePath = dataDir.resolve(fileName + ".corrupted");
+        this.journalPath = dataDir.resolve(fileName + ".journal");
+        this.lockPath = dataDir.resolve(fileName + ".lock");
+        this.versionPath = dataDir.resolve(fileName + ".version");
+        this.descriptionPool = descriptionPool;
+        this.backups = new BackupScheduler(filePath, dataDir.resolve("backups"), BACKUP_GENERATIONS);
+    }
+
+    /**
+     * Sets whether full saves are GZIP-compressed. Loading detects either format, so a file written
+     * one way is read back the same whichever way this is set; journals always stay plain text.
+     *
+     * @param isCompressed true to compress full saves.
+     */
+    public void setCompressed(boolean isCompressed) {
+        this.isCompressed = isCompressed;
+    }
+
+    /**
+     * Starts backing up the storage file in the background: periodically, and after each full save.
+     * Only the writer backs up, so a read-only storage starts once it takes over the write lock;
+     * two processes copying the same file would each prune the other's backups.
+     *
+     * @param intervalSeconds The time between periodic backups.
+     */
+    public void startBackups(long intervalSeconds) {
+        backupIntervalSeconds = intervalSeconds;
+        if (lock != null) {
+            backups.start(intervalSeconds);
+        }
+    }
+
+    @Override
+    public List<String> getBackupNames() throws MondayStorageException {
+        try {
+            return backups.getBackups().stream().map(backup -> backup.getFileName().toString()).toList();
+        } catch (IOException e) {
+            throw new MondayStorageException("Ugh. I can't find your backups. " + e.getMessage());
+        }
+    }
+
+    /**
+     * Replaces the storage file with a backup by moving a copy over it atomically, after backing up
+     * the current file so the restore can itself be undone. The journal is deleted and the version
+     * stamp is updated, so a read-only MONDAY following this one loads the restored tasks.
+     *
+     * @param name The name of the backup, as listed by getBackupNames.
+     * @throws MondayStorageException If there is no such backup, another process holds the write
+     *         lock, or an I/O error occurs.
+     */
+    @Override
+    public void restoreBackup(String name) throws MondayStorageException {
+        checkWritable();
+        try {
+            Path backup = null;
+            for (Path candidate : backups.getBackups()) {
+                if (candidate.getFileName().toString().equals(name)) {
+                    backup = candidate;
+                }
+            }
+            if (backup == null) {
+                throw new MondayStorageException("Ugh, there's no backup called " + name + ".");
+            }
+            // Read it first: backing up the current file may delete the oldest backup
+            byte[] content = Files.readAllBytes(backup);
+            backups.backUp();
+
+            Path temp = filePath.resolveSibling(fileName + ".restore.tmp");
+            Files.write(temp, content);
+            Files.move(temp, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            snapshotLines = null;
+            snapshotChecksum = checksum(content);
+            writeVersion();
+            Files.deleteIfExists(journalPath);
+            journalEntryCount = 0;
+            journalOffset = 0;
+        } catch (IOException e) {
+            throw new MondayStorageException("Ugh. I couldn't restore that backup. " + e.getMessage());
+        }
+    }
+
+    /**
+     * Loads tasks from the storage file, then replays any journaled edits made since it was written.
+     * If the file does not exist, creates it and starts with no tasks.
+     * Takes the write lock if no other process holds it, and opens read-only otherwise.
+     *
+     * @return The load result containing tasks and corruption statistics.
+     * @throws MondayStorageException If an I/O error occurs during loading.
+     */
+    @Override
+    public LoadResult loadTasks() throws MondayStorageException {
+        long startTime = System.nanoTime();
+        StorageLoadEvent event = new StorageLoadEvent();
+        event.begin();
+        try {
+            tryLock();
+            deduplicatedBytes.reset();
+            snapshotLines = null;
+            StoredSnapshot snapshot = readSnapshot();
+            snapshotChecksum = snapshot.getChecksum();
+            List<Task> tasks = replayJournal(snapshot.getTasks());
+
+            LoadResult result = new LoadResult(tasks, snapshot.getCorruptedLineCount(), deduplicatedBytes.sum());
+            lastLoadResult = result;
+
+            if (event.shouldCommit()) {
+                event.path = filePath.toString();
+                event.taskCount = tasks.size();
+                event.bytes = snapshot.getByteCount();
+                event.corruptedLineCount = snapshot.getCorruptedLineCount();
+                event.journalEntryCount = journalEntryCount;
+                event.commit();
+            }
+            return result;
+        } catch (IOException e) {
+            throw new MondayStorageException("Ugh. I can't access your data file. " + e.getMessage());
+        } finally {
+            LOAD_TIMER.record(System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Reads the tasks saved by the last full save, without any journaled edits.
+     * Creates an empty storage file if there is none.
+     *
+     * @return The saved tasks, with the checksum that journals written against them carry.
+     * @throws IOException If the storage file cannot be read or created.
+     */
+    StoredSnapshot readSnapshot() throws IOException {
+        // Create directory and file if they don't exist
+        if (!Files.exists(dataDir)) {
+            Files.createDirectories(dataDir);
+        }
+        if (!Files.exists(filePath)) {
+            Files.createFile(filePath);
+            rememberLines(new SnapshotLines(0), readAttributes());
+            return new StoredSnapshot(new ArrayList<>(), 0, checksum(new byte[0]), 0);
+        }
+
+        // Stamp before reading, so an edit made meanwhile is still noticed later
+        BasicFileAttributes attributes = readAttributes();
+        byte[] content = Files.readAllBytes(filePath);
+        List<Task> tasks = new ArrayList<>();
+        SnapshotLines lines = new SnapshotLines(content.length / 32);
+        int corruptedCount = parseContent(content, tasks, lines);
+        rememberLines(lines, attributes);
+        return new StoredSnapshot(tasks, corruptedCount, checksum(content), content.length);
+    }
+
+    /**
+     * Parses the tasks in storage file content, skipping and backing up corrupted lines.
+     *
+     * @param content The content to parse, in the storage file format.
+     * @param tasks The list that parsed tasks are added to.
+     * @return The number of corrupted lines.
+     */
+    int parseContent(byte[] content, List<Task> tasks) {
+        return parseContent(content, tasks, null);
+    }
+
+    /**
+     * Parses the tasks in storage file content, remembering each line's hash and task.
+     *
+     * @param content The content to parse, in the storage file format.
+     * @param tasks The list that parsed tasks are added to.
+     * @param snapshotLines The lines that every non-empty line is added to, or null.
+     * @return The number of corrupted lines.
+     */
+    private int parseContent(byte[] content, List<Task> tasks, SnapshotLines snapshotLines) {
+        String[] lines = decodeContent(content).split(LINE_BREAK);
+        int corruptedCount = 0;
+        int parsedCount = 0;
+
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].trim();
+
+            // Skip empty lines
+            if (line.isEmpty()) {
+                continue;
+            }
+            parsedCount++;
+
+            Task task = parseLine(i + 1, lines[i]);
+            if (snapshotLines != null) {
+                snapshotLines.add(SnapshotLines.hash(line), task);
+            }
+            if (task != null) {
+                tasks.add(task);
+            } else {
+                corruptedCount++;
+            }
+        }
+        LINES_PARSED.add(parsedCount);
+        CORRUPTED_LINES.add(corruptedCount);
+        return corruptedCount;
+    }
+
+    /**
+     * Parses one line of the storage file, backing it up if it is corrupted.
+     *
+     * @param lineNumber The number of the line in its file.
+     * @param line The line as read.
+     * @return The parsed task, or null if the line is corrupted.
+     */
+    private Task parseLine(int lineNumber, String line) {
+        Task task;
+        try {
+            task = parseTask(line.trim());
+        } catch (Exception e) {
+            // Exception during parsing - corrupted line
+            task = null;
+        }
+        if (task == null) {
+            System.err.println(CORRUPTED_LINE_MESSAGE + lineNumber);
+            backupCorruptedLine(lineNumber, line);
+        }
+        return task;
+    }
+
+    /**
+     * Gets the path of the storage file.
+     *
+     * @return The storage file path.
+     */
+    Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Gets the result of the last load operation.
+     *
+     * @return The last LoadResult.
+     */
+    public LoadResult getLoadResult() {
+        return lastLoadResult;
+    }
+
+    /**
+     * Applies the edits journaled since the storage file was last written.
+     * A journal whose header names a different snapshot is stale (its edits were already saved)
+     * and is discarded. Replay stops at the first unreadable entry, and the result is saved
+     * straight away so later edits are not journaled after the bad entry.
+     *
+     * <p>A last line without a line break is still being appended by the writer, or was cut short
+     * when it crashed. Read-only, it is left for followWriter to pick up once complete; otherwise
+     * the writer is gone, so it is dropped like an unreadable entry. Either way, journalOffset ends
+     * just past the last complete line applied, so following the writer never applies a line twice.
+     *
+     * @param tasks The tasks loaded from the storage file.
+     * @return The tasks with the journaled edits applied.
+     * @throws IOException If the journal cannot be read.
+     * @throws MondayStorageException If the recovered tasks cannot be saved.
+     */
+    private List<Task> replayJournal(List<Task> tasks) throws IOException, MondayStorageException {
+        journalEntryCount = 0;
+        journalOffset = 0;
+        if (!Files.exists(journalPath)) {
+            return tasks;
+        }
+
+        byte[] journal = Files.readAllBytes(journalPath);
+        int headerEnd = indexOfLineBreak(journal, 0);
+        String header = headerEnd < 0 ? null : new String(journal, 0, headerEnd, StandardCharsets.UTF_8).trim();
+        if (!(JOURNAL_HEADER_PREFIX + snapshotChecksum).equals(header)) {
+            if (!isReadOnly()) {
+                Files.delete(journalPath);
+            }
+            return tasks;
+        }
+
+        TaskList taskList = new TaskList(tasks);
+        journalOffset = headerEnd + 1;
+        int lineNumber = 2;
+        for (int start = headerEnd + 1; start < journal.length; start = (int) journalOffset, lineNumber++) {
+            int end = indexOfLineBreak(journal, start);
+            if (end < 0 && isReadOnly()) {
+                break;
+            }
+            TaskEdit edit = null;
+            String line = "";
+            if (end >= 0) {
+                line = new String(journal, start, end - start, StandardCharsets.UTF_8).trim();
+                edit = line.isEmpty() ? null : parseEdit(line, taskList);
+            }
+            if (edit == null && (end < 0 || !line.isEmpty())) {
+                System.err.println("Ugh. Ignoring journal from line " + lineNumber + " onwards.");
+                if (!isReadOnly()) {
+                    saveTasks(taskList.getTasks());
+                }
+                return taskList.getTasks();
+            }
+            if (edit != null) {
+                edit.applyTo(taskList);
+                journalEntryCount++;
+            }
+            journalOffset = end + 1;
+        }
+        return taskList.getTasks();
+    }
+
+    private static int indexOfLineBreak(byte[] content, int from) {
+        for (int i = from; i < content.length; i++) {
+            if (content[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Applies the changes stored from outside this storage since the tasks were loaded or saved.
+     * If read-only, only journal entries the writing process appended since the last look are read,
+     * and the write lock is taken over if that process has exited. Then, if the storage file was
+     * edited by hand, only the lines that changed are parsed and applied.
+     *
+     * @param taskList The tasks as loaded, with earlier external changes applied.
+     * @return The edits applied, or null if the tasks must be loaded again.
+     * @throws MondayStorageException If the changes cannot be read, or merged with journaled edits.
+     */
+    @Override
+    public List<TaskEdit> applyExternalChanges(TaskList taskList) throws MondayStorageException {
+        try {
+            List<TaskEdit> edits = new ArrayList<>();
+            if (isReadOnly() && !followWriter(taskList, edits)) {
+                return null;
+            }
+            return applyHandEdits(taskList, edits) ? edits : null;
+        } catch (IOException e) {
+            throw new MondayStorageException("Ugh. I can't follow the changes to your tasks. " + e.getMessage());
+        }
+    }
+
+    /**
+     * Applies the journal entries the writing process appended since the last look.
+     *
+     * @return false if the writer saved all tasks since, so the tasks must be loaded again.
+     */
+    private boolean followWriter(TaskList taskList, List<TaskEdit> edits) throws IOException {
+        // Lock before reading, so a writer that just exited has finished writing
+        tryLock();
+        if (readVersion() != snapshotChecksum) {
+            return false;
+        }
+        if (!Files.exists(journalPath)) {
+            // Entries we applied are gone but the version is the same: the save wrote identical
+            // content, or was interrupted. Start over to be safe
+            return journalOffset == 0;
+        }
+        try (FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.READ)) {
+            long size = journal.size();
+            if (size < journalOffset) {
+                return false; // Rewritten since we last looked
+            }
+            ByteBuffer appended = ByteBuffer.allocate((int) (size - journalOffset));
+            journal.position(journalOffset);
+            int read = 0;
+            while (appended.hasRemaining() && read >= 0) {
+                read = journal.read(appended);
+            }
+            if (!applyJournalEntries(appended.array(), appended.position(), taskList, edits)) {
+                return false;
+            }
+        }
+        if (!isReadOnly() && Files.size(journalPath) > journalOffset) {
+            // Taken over from a writer that died mid-append; drop its half-written line before appending
+            try (FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                journal.truncate(journalOffset);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Applies the complete journal lines in newly appended journal content.
+     * A partly written last line is left for the next look.
+     */
+    private boolean applyJournalEntries(byte[] appended, int length, TaskList taskList, List<TaskEdit> edits) {
+        int start = 0;
+        for (int end = 0; end < length; end++) {
+            if (appended[end] != '\n') {
+                continue;
+            }
+            String line = new String(appended, start, end - start, StandardCharsets.UTF_8).trim();
+            if (journalOffset == 0) {
+                if (!line.equals(JOURNAL_HEADER_PREFIX + snapshotChecksum)) {
+                    return false;
+                }
+            } else if (!line.isEmpty()) {
+                TaskEdit edit = parseEdit(line, taskList);
+                if (edit == null) {
+                    return false;
+                }
+                edit.applyTo(taskList);
+                edits.add(edit);
+                journalEntryCount++;
+            }
+            journalOffset += end + 1 - start;
+            start = end + 1;
+        }
+        return true;
+    }
+
+    /**
+     * Applies the changes made by hand to the storage file since it was last read or written.
+     * The file's size and modification time tell whether to look at all. Lines are compared by
+     * hash, and only added or edited lines are parsed. Tasks that only changed their done flag are
+     * marked, and the others are replaced. If so much changed that applying edits one by one would
+     * be slower than reading the file again, the tasks are loaded again instead.
+     *
+     * <p>If edits were journaled since the last save, their task numbers refer to the file before
+     * the hand edits. They are replayed onto the edited file instead, which is saved straight away.
+     *
+     * @return false if the tasks must be loaded again.
+     */
+    private boolean applyHandEdits(TaskList taskList, List<TaskEdit> edits)
+            throws IOException, MondayStorageException {
+        if (snapshotLines == null) {
+            return true;
+        }
+        BasicFileAttributes attributes;
+        byte[] content;
+        try {
+            attributes = readAttributes();
+            if (attributes.size() == snapshotSize
+                    && attributes.lastModifiedTime().toMillis() == snapshotModifiedTime) {
+                return true;
+            }
+            content = Files.readAllBytes(filePath);
+        } catch (NoSuchFileException e) {
+            return true; // Deleted mid-save, or by hand; the next save writes it again
+        }
+        long newChecksum = checksum(content);
+        if (newChecksum == snapshotChecksum) {
+            rememberLines(snapshotLines, attributes);
+            return true;
+        }
+
+        String[] rawLines = decodeContent(content).split(LINE_BREAK);
+        int[] lineNumbers = new int[rawLines.length];
+        long[] hashes = new long[rawLines.length];
+        int newSize = 0;
+        for (int i = 0; i < rawLines.length; i++) {
+            String line = rawLines[i].trim();
+            if (!line.isEmpty()) {
+                lineNumbers[newSize] = i + 1;
+                hashes[newSize] = SnapshotLines.hash(line);
+                newSize++;
+            }
+        }
+
+        SnapshotLines oldLines = snapshotLines;
+        int oldSize = oldLines.size();
+        int prefix = 0;
+        while (prefix < oldSize && prefix < newSize && oldLines.getHash(prefix) == hashes[prefix]) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < oldSize - prefix && suffix < newSize - prefix
+                && oldLines.getHash(oldSize - 1 - suffix) == hashes[newSize - 1 - suffix]) {
+            suffix++;
+        }
+
+        // Walk the changed lines of both versions together. A line found further on in the other
+        // version is skipped over as added or removed; two lines found nowhere else are one edited line
+        Map<Long, Integer> oldRemaining = countHashes(oldLines, prefix, oldSize - suffix);
+        Map<Long, Integer> newRemaining = countHashes(hashes, prefix, newSize - suffix);
+        SnapshotLines newLines = new SnapshotLines(newSize);
+        List<TaskEdit> handEdits = new ArrayList<>();
+        int taskCount = 0;
+        int taskNumber = 1;
+        for (int i = 0; i < oldSize; i++) {
+            if (i == prefix) {
+                taskNumber = taskCount + 1;
+            }
+            if (oldLines.getTask(i) != null) {
+                taskCount++;
+            }
+            if (i < prefix) {
+                newLines.add(oldLines.getHash(i), oldLines.getTask(i));
+            }
+        }
+        if (prefix == oldSize) {
+            taskNumber = taskCount + 1;
+        }
+        int oldIndex = prefix;
+        int newIndex = prefix;
+        while (oldIndex < oldSize - suffix || newIndex < newSize - suffix) {
+            boolean hasOld = oldIndex < oldSize - suffix;
+            boolean hasNew = newIndex < newSize - suffix;
+            long oldHash = hasOld ? oldLines.getHash(oldIndex) : 0;
+            long newHash = hasNew ? hashes[newIndex] : 0;
+            Task oldTask = hasOld ? oldLines.getTask(oldIndex) : null;
+            boolean isSameLine = hasOld && hasNew && oldHash == newHash;
+            boolean isOldLater = hasOld && newRemaining.getOrDefault(oldHash, 0) > 0;
+            boolean isNewLater = hasNew && oldRemaining.getOrDefault(newHash, 0) > 0;
+
+            boolean takesOld;
+            boolean takesNew;
+            if (isSameLine) {
+                newLines.add(newHash, oldTask);
+                taskNumber += oldTask == null ? 0 : 1;
+                takesOld = true;
+                takesNew = true;
+            } else if (hasOld && hasNew && !isOldLater && !isNewLater) {
+                Task newTask = parseLine(lineNumbers[newIndex], rawLines[lineNumbers[newIndex] - 1]);
+                newTask = addReplaceEdits(handEdits, taskNumber, oldTask, newTask);
+                newLines.add(newHash, newTask);
+                taskNumber += newTask == null ? 0 : 1;
+                takesOld = true;
+                takesNew = true;
+            } else if (hasOld && (!isOldLater || isNewLater)) {
+                if (oldTask != null) {
+                    handEdits.add(TaskEdit.deleted(taskNumber, oldTask));
+                }
+                takesOld = true;
+                takesNew = false;
+            } else {
+                Task newTask = parseLine(lineNumbers[newIndex], rawLines[lineNumbers[newIndex] - 1]);
+                if (newTask != null) {
+                    handEdits.add(TaskEdit.added(taskNumber++, newTask));
+                }
+                newLines.add(newHash, newTask);
+                takesOld = false;
+                takesNew = true;
+            }
+
+            if (takesOld) {
+                oldRemaining.merge(oldHash, -1, Integer::sum);
+                oldIndex++;
+            }
+            if (takesNew) {
+                newRemaining.merge(newHash, -1, Integer::sum);
+                newIndex++;
+            }
+        }
+        for (int i = oldSize - suffix; i < oldSize; i++) {
+            newLines.add(oldLines.getHash(i), oldLines.getTask(i));
+        }
+
+        if (journalEntryCount > 0) {
+            return mergeJournal(newLines);
+        }
+        if (taskList.getTaskCount() != taskCount || handEdits.size() > MAX_HAND_EDITS) {
+            return false;
+        }
+        for (TaskEdit edit : handEdits) {
+            edit.applyTo(taskList);
+        }
+        edits.addAll(handEdits);
+        rememberLines(newLines, attributes);
+        snapshotChecksum = newChecksum;
+        if (!isReadOnly()) {
+            writeVersion();
+        }
+        return true;
+    }
+
+    /**
+     * Adds the edits that turn an old line's task into an edited line's task.
+     * A task that only changed its done flag is kept and marked, so it stays the same object.
+     *
+     * @return The task the edited line now holds, or null if it is corrupted.
+     */
+    private Task addReplaceEdits(List<TaskEdit> edits, int taskNumber, Task oldTask, Task newTask) {
+        if (oldTask == null) {
+            if (newTask != null) {
+                edits.add(TaskEdit.added(taskNumber, newTask));
+            }
+            return newTask;
+        }
+        if (newTask == null) {
+            edits.add(TaskEdit.deleted(taskNumber, oldTask));
+            return null;
+        }
+        if (!encodeTask(oldTask, newTask.isDone()).equals(encodeTask(newTask))) {
+            edits.add(TaskEdit.deleted(taskNumber, oldTask));
+            edits.add(TaskEdit.added(taskNumber, newTask));
+            return newTask;
+        }
+        if (oldTask.isDone() != newTask.isDone()) {
+            edits.add(TaskEdit.marked(taskNumber, oldTask, newTask.isDone(), oldTask.isDone()));
+        }
+        return oldTask;
+    }
+
+    private static Map<Long, Integer> countHashes(SnapshotLines lines, int from, int to) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (int i = from; i < to; i++) {
+            counts.merge(lines.getHash(i), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private static Map<Long, Integer> countHashes(long[] hashes, int from, int to) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (int i = from; i < to; i++) {
+            counts.merge(hashes[i], 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Replays the journal onto a storage file edited by hand, and saves the result.
+     * A read-only storage cannot save, so it leaves the merge to the writer.
+     *
+     * @param editedLines The lines of the edited file.
+     * @return false, since the tasks must be loaded again.
+     */
+    private boolean mergeJournal(SnapshotLines editedLines) throws IOException, MondayStorageException {
+        if (isReadOnly()) {
+            return false;
+        }
+        TaskList merged = new TaskList();
+        for (int i = 0; i < editedLines.size(); i++) {
+            if (editedLines.getTask(i) != null) {
+                merged.addTask(editedLines.getTask(i));
+            }
+        }
+        List<String> entries = Files.exists(journalPath) ? Files.readAllLines(journalPath) : List.of();
+        if (!entries.isEmpty() && entries.get(0).equals(JOURNAL_HEADER_PREFIX + snapshotChecksum)) {
+            for (int i = 1; i < entries.size(); i++) {
+                TaskEdit edit = parseEdit(entries.get(i).trim(), merged);
+                if (edit == null) {
+                    System.err.println("Ugh. Dropping journaled changes that don't fit your edited file.");
+                    break;
+                }
+                edit.applyTo(merged);
+            }
+        }
+        saveTasks(merged.getTasks());
+        return false;
+    }
+
+    private BasicFileAttributes readAttributes() throws IOException {
+        return Files.readAttributes(filePath, BasicFileAttributes.class);
+    }
+
+    /**
+     * Remembers the lines of the storage file as just read or written, with its size and modification time.
+     */
+    private void rememberLines(SnapshotLines lines, BasicFileAttributes attributes) {
+        snapshotLines = lines;
+        snapshotSize = attributes.size();
+        snapshotModifiedTime = attributes.lastModifiedTime().toMillis();
+    }
+
+    /**
+     * Reads the version stamp naming the last full save.
+     *
+     * @return The checksum of the last full save, or the loaded one if no stamp has been written yet.
+     */
+    private long readVersion() throws IOException {
+        try {
+            return Long.parseLong(Files.readString(versionPath).trim());
+        } catch (NoSuchFileException | NumberFormatException e) {
+            return snapshotChecksum;
+        }
+    }
+
+    /**
+     * Writes the version stamp naming the full save just made, replacing the old one atomically.
+     */
+    private void writeVersion() throws IOException {
+        Path temp = versionPath.resolveSibling(versionPath.getFileName() + ".tmp");
+        Files.writeString(temp, Long.toString(snapshotChecksum));
+        Files.move(temp, versionPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Takes the exclusive write lock if no other process holds it.
+     */
+    private void tryLock() throws IOException {
+        if (lock != null) {
+            return;
+        }
+        if (lockChannel == null) {
+            Files.createDirectories(dataDir);
+            lockChannel = FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        }
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null; // Another storage in this process holds it
+        }
+        if (lock != null && backupIntervalSeconds > 0) {
+            backups.start(backupIntervalSeconds);
+        }
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return lock == null;
+    }
+
+    /**
+     * Releases the write lock, letting a read-only MONDAY take over.
+     */
+    @Override
+    public void close() {
+        backupIntervalSeconds = 0; // Loading again afterwards does not restart backups
+        backups.close();
+        try {
+            if (lock != null) {
+                lock.release();
+            }
+            if (lockChannel != null) {
+                lockChannel.close();
+            }
+        } catch (IOException e) {
+            System.err.println("Warning: Couldn't release the lock on your tasks.");
+        }
+        lock = null;
+        lockChannel = null;
+    }
+
+    private void checkWritable() throws MondayStorageException {
+        if (lockChannel == null) {
+            try {
+                tryLock();
+            } catch (IOException e) {
+                throw new MondayStorageException("Ugh. I can't lock your data file. " + e.getMessage());
+            }
+        }
+        if (isReadOnly()) {
+            throw new MondayStorageException(READ_ONLY_MESSAGE);
+        }
+    }
+
+    /**
+     * Parses an edit from a single journal line.
+     *
+     * @param line The journal line to parse.
+     * @param taskList The tasks the edit will be applied to.
+     * @return The parsed edit, or null if the line is invalid or does not fit the tasks.
+     */
+    private TaskEdit parseEdit(String line, TaskList taskList) {
+        // Format: ADD | n | <task line>, DELETE | n, or MARK | n | 0/1
+        String[] parts = line.split("\\s*\\|\\s*", 3);
+        try {
+            TaskEdit.Kind kind = TaskEdit.Kind.valueOf(parts[0]);
+            int taskNumber = Integer.parseInt(parts[1]);
+            TaskEdit edit;
+            switch (kind) {
+            case ADD:
+                Task task = parseTask(parts[2]);
+                edit = task == null ? null : TaskEdit.added(taskNumber, task);
+                break;
+            case DELETE:
+                edit = taskList.isValidTaskNumber(taskNumber)
+                        ? TaskEdit.deleted(taskNumber, taskList.getTask(taskNumber)) : null;
+                break;
+            case MARK:
+                if (taskList.isValidTaskNumber(taskNumber)) {
+                    Task markedTask = taskList.getTask(taskNumber);
+                    edit = TaskEdit.marked(taskNumber, markedTask, parts[2].equals("1"), markedTask.isDone());
+                } else {
+                    edit = null;
+                }
+                break;
+            default:
+                edit = null;
+                break;
+            }
+            return edit != null && edit.canApplyTo(taskList.getTaskCount()) ? edit : null;
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses a task from a single line of the storage file.
+     *
+     * @param line The line to parse.
+     * @return The parsed Task, or null if the line is invalid.
+     */
+    private Task parseTask(String line) {
+        // Split by pipe delimiter with optional spaces
+        String[] parts = line.split("\\s*\\|\\s*");
+
+        // Minimum: type, status, description
+        if (parts.length < 3) {
+            return null;
+        }
+
+        String type = parts[0].trim();
+        boolean isDone = parts[1].trim().equals("1");
+        String description = parts[2].trim();
+
+        // Validate description is not empty
+        if (description.isEmpty()) {
+            return null;
+        }
+        if (descriptionPool != null) {
+            String pooled = descriptionPool.intern(description);
+            if (pooled != description) {
+                deduplicatedBytes.add(DescriptionPool.estimateBytes(description));
+            }
+            description = pooled;
+        }
+
+        Task task;
+
+        switch (type) {
+        case "T":
+            task = new ToDo(description);
+            break;
+        case "D":
+            if (parts.length < 4) {
+                return null;
+            }
+            // Format: D | 0 | description | by: deadline
+            String by = extractFieldValue(parts[3]);
+            // Validate by field is not empty
+            if (by.isEmpty()) {
+                return null;
+            }
+            try {
+                LocalDateTime byDateTime = DateTimeParser.parseStorageDateTime(by);
+                task = new Deadline(description, byDateTime);
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+            break;
+        case "E":
+            if (parts.length < 5) {
+                return null;
+            }
+            // Format: E | 0 | description | from: start | to: end
+            String from = extractFieldValue(parts[3]);
+            String to = extractFieldValue(parts[4]);
+            // Validate from and to fields are not empty
+            if (from.isEmpty() || to.isEmpty()) {
+                return null;
+            }
+            try {
+                LocalDateTime fromDateTime = DateTimeParser.parseStorageDateTime(from);
+                LocalDateTime toDateTime = DateTimeParser.parseStorageDateTime(to);
+                task = new Event(description, fromDateTime, toDateTime);
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+            break;
+        default:
+            // Unknown type, skip this line
+            return null;
+        }
+
+        // Set the done status
+        if (isDone) {
+            task.markAsDone();
+        }
+
+        return task;
+    }
+
+    /**
+     * Extracts the value from a field part (e.g., "by: Sunday" -> "Sunday").
+     *
+     * @param fieldPart The field part to extract from.
+     * @return The extracted value.
+     */
+    private String extractFieldValue(String fieldPart) {
+        String[] parts = fieldPart.split(":", 2);
+        if (parts.length < 2) {
+            return "";
+        }
+        return parts[1].trim();
+    }
+
+    /**
+     * Backs up a corrupted line to the corrupted file for possible recovery.
+     *
+     * @param lineNumber The number of the corrupted line in its file.
+     * @param line The corrupted line to backup.
+     */
+    private synchronized void backupCorruptedLine(int lineNumber, String line) {
+        CorruptedLineEvent event = new CorruptedLineEvent();
+        if (event.isEnabled()) {
+            event.lineNumber = lineNumber;
+            event.lineLength = line.length();
+            event.commit();
+        }
+        try {
+            // Ensure directory exists
+            if (!Files.exists(dataDir)) {
+                Files.createDirectories(dataDir);
+            }
+            // Append to corrupted file (create if doesn't exist)
+            String lineWithNewline = line + System.lineSeparator();
+            Files.write(corruptedFilePath, lineWithNewline.getBytes(),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            // Backup failure should not prevent loading - just warn
+            System.err.println("Warning: Couldn't backup corrupted line.");
+        }
+    }
+
+    /**
+     * Saves all tasks to the storage file and stamps the new version.
+     * The journal is cleared, since the saved file now contains all of its edits.
+     *
+     * @param tasks The list of tasks to save.
+     * @throws MondayStorageException If another process holds the write lock, or an I/O error occurs.
+     */
+    @Override
+    public void saveTasks(List<Task> tasks) throws MondayStorageException {
+        long startTime = System.nanoTime();
+        StorageSaveEvent event = new StorageSaveEvent();
+        event.begin();
+        checkWritable();
+        try {
+            snapshotLines = null;
+            StoredSnapshot snapshot = writeSnapshot(tasks);
+            snapshotChecksum = snapshot.getChecksum();
+            writeVersion();
+            Files.deleteIfExists(journalPath);
+            journalEntryCount = 0;
+            journalOffset = 0;
+            TASKS_SAVED.add(tasks.size());
+            backups.requestBackup();
+
+            if (event.shouldCommit()) {
+                event.path = filePath.toString();
+                event.taskCount = tasks.size();
+                event.bytes = snapshot.getByteCount();
+                event.commit();
+            }
+        } catch (IOException e) {
+            throw new MondayStorageException("Ugh. I couldn't save your tasks. " + e.getMessage());
+        } finally {
+            SAVE_TIMER.record(System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Writes all tasks as the new saved state, replacing the previous one.
+     *
+     * @param tasks The tasks to write.
+     * @return The state as written, with the checksum that journals written against it will carry.
+     * @throws IOException If the tasks cannot be written.
+     */
+    StoredSnapshot writeSnapshot(List<Task> tasks) throws IOException {
+        // Ensure directory exists
+        if (!Files.exists(dataDir)) {
+            Files.createDirectories(dataDir);
+        }
+
+        // Stream all tasks to a temporary file, compressing on the way if asked, and remember each line.
+        // It only replaces the file once complete and on disk, so a crash or full disk mid-save, or
+        // anyone reading meanwhile, sees the previous save rather than half of this one
+        Path temp = filePath.resolveSibling(fileName + ".tmp");
+        SnapshotLines lines = new SnapshotLines(tasks.size());
+        CheckedOutputStream file = new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp), WRITE_BUFFER_SIZE), new CRC32());
+        OutputStream encoded = isCompressed ? compressing(file) : file;
+        try {
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(encoded, StandardCharsets.UTF_8),
+                    WRITE_BUFFER_SIZE)) {
+                for (Task task : tasks) {
+                    String line = encodeTask(task);
+                    writer.write(line);
+                    writer.write(System.lineSeparator());
+                    lines.add(SnapshotLines.hash(line), task);
+                }
+            }
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temp, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        BasicFileAttributes attributes = readAttributes();
+        rememberLines(lines, attributes);
+        return new StoredSnapshot(tasks, 0, file.getChecksum().getValue(), attributes.size());
+    }
+
+    /**
+     * Compresses encoded content if compression is on, for storage that writes whole byte arrays.
+     *
+     * @param content The encoded content.
+     * @return The content to write: compressed, or as it was.
+     */
+    byte[] compressIfEnabled(byte[] content) {
+        if (!isCompressed) {
+            return content;
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length / 4);
+        try (OutputStream out = compressing(compressed)) {
+            out.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // ByteArrayOutputStream never throws
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Wraps a stream in a GZIP stream at the level chosen for snapshots.
+     */
+    private static OutputStream compressing(OutputStream out) throws IOException {
+        return new GZIPOutputStream(out, WRITE_BUFFER_SIZE) {
+            {
+                def.setLevel(COMPRESSION_LEVEL);
+            }
+        };
+    }
+
+    /**
+     * Gets the text of storage file content, decompressing it first if it starts with the GZIP magic
+     * bytes. Plain text never does, since a task line cannot start with a control character.
+     * A damaged compressed file gives the text up to the damage, so the tasks before it still load.
+     *
+     * @param content The content as read.
+     * @return The text.
+     */
+    private static String decodeContent(byte[] content) {
+        boolean hasGzipMagic = content.length >= 2
+                && (content[0] & 0xff) == GZIP_MAGIC_FIRST && (content[1] & 0xff) == GZIP_MAGIC_SECOND;
+        if (!hasGzipMagic) {
+            return new String(content, StandardCharsets.UTF_8);
+        }
+        ByteArrayOutputStream text = new ByteArrayOutputStream(content.length * 4);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(content), WRITE_BUFFER_SIZE)) {
+            in.transferTo(text);
+        } catch (IOException e) {
+            System.err.println("Ugh. Your compressed data file is damaged. Reading what I can.");
+        }
+        return text.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Encodes a range of tasks in the storage file format.
+     *
+     * @param tasks The tasks to encode.
+     * @param from The index of the first task to encode.
+     * @param to The index after the last task to encode.
+     * @return The encoded content as UTF-8 bytes.
+     */
+    byte[] encodeContent(List<Task> tasks, int from, int to) {
+        StringBuilder sb = new StringBuilder();
+        for (Task task : tasks.subList(from, to)) {
+            sb.append(encodeTask(task)).append(System.lineSeparator());
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Appends a single edit to the journal instead of rewriting the whole storage file.
+     * The first entry after a save starts a new journal tagged with the saved file's checksum.
+     *
+     * @param edit The edit to persist.
+     * @throws MondayStorageException If the storage file was never loaded or saved, another process
+     *         holds the write lock, or an I/O error occurs.
+     */
+    @Override
+    public void appendEdit(TaskEdit edit) throws MondayStorageException {
+        if (snapshotChecksum == UNKNOWN_CHECKSUM) {
+            throw new MondayStorageException("Ugh. I can't journal changes to a file I never read.");
+        }
+        checkWritable();
+
+        long startTime = System.nanoTime();
+        try {
+            String entry = encodeEdit(edit) + System.lineSeparator();
+            if (journalEntryCount == 0) {
+                String header = JOURNAL_HEADER_PREFIX + snapshotChecksum + System.lineSeparator();
+                Files.writeString(journalPath, header + entry, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            } else {
+                Files.writeString(journalPath, entry, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            journalEntryCount++;
+        } catch (IOException e) {
+            throw new MondayStorageException("Ugh. I couldn't save your change. " + e.getMessage());
+        } finally {
+            JOURNAL_TIMER.record(System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Gets the number of edits journaled since the storage file was last written.
+     *
+     * @return The journal entry count.
+     */
+    @Override
+    public int getJournalEntryCount() {
+        return journalEntryCount;
+    }
+
+    /**
+     * Encodes an edit into a single journal line.
+     *
+     * @param edit The edit to encode.
+     * @return The encoded journal line.
+     */
+    private String encodeEdit(TaskEdit edit) {
+        String prefix = edit.getKind() + " | " + edit.getTaskNumber();
+        switch (edit.getKind()) {
+        case ADD:
+            return prefix + " | " + encodeTask(edit.getTask());
+        case MARK:
+            return prefix + " | " + (edit.isDone() ? "1" : "0");
+        default:
+            return prefix;
+        }
+    }
+
+    /**
+     * Computes the checksum that ties a journal to the storage file it was written against.
+     *
+     * @param content The storage file content.
+     * @return The CRC32 checksum.
+     */
+    static long checksum(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return crc.getValue();
+    }
+
+    /**
+     * Encodes a task into a string format for storage.
+     *
+     * @param task The task to encode.
+     * @return The encoded string representation.
+     */
+    private String encodeTask(Task task) {
+        return encodeTask(task, task.isDone());
+    }
+
+    /**
+     * Encodes a task into a string format for storage, as if its done flag were the given one.
+     *
+     * @param task The task to encode.
+     * @param isDone The done flag to encode.
+     * @return The encoded string representation.
+     */
+    private String encodeTask(Task task, boolean isDone) {
+        String type = task.getTypeIcon().replaceAll("[\\[\\]]", "");
+        String done = isDone ? "1" : "0";
+        String desc = task.getDescription();
+
+        if (task instanceof Deadline) {
+            String by = ((Deadline) task).getByForStorage();
+            return String.format("%s | %s | %s | by: %s", type, done, desc, by);
+        } else if (task instanceof Event) {
+            String from = ((Event) task).getFromForStorage();
+            String to = ((Event) task).getToForStorage();
+            return String.format("%s | %s | %s | from: %s | to: %s", type, done, desc, from, to);
+        } else {
+            return String.format("%s | %s | %s", type, done, desc);
+        }
+    }
+}
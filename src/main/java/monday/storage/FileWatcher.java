@@ -0,0 +1,104 @@
+package monday.storage;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches a directory on a background thread and reports when files whose names start with a
+ * given prefix are created, changed or deleted.
+ * A burst of changes, such as one save writing several files, is reported once after it settles.
+ */
+public class FileWatcher implements AutoCloseable {
+
+    private static final long SETTLE_MILLIS = 100;
+
+    private final Path directory;
+    private final String fileNamePrefix;
+    private final Runnable onChange;
+    private WatchService watchService;
+
+    /**
+     * Creates a new FileWatcher. Nothing is watched until start is called.
+     *
+     * @param directory The directory to watch.
+     * @param fileNamePrefix The prefix of the names of the files to watch.
+     * @param onChange Called on the watcher thread after matching files changed.
+     */
+    public FileWatcher(Path directory, String fileNamePrefix, Runnable onChange) {
+        this.directory = directory;
+        this.fileNamePrefix = fileNamePrefix;
+        this.onChange = onChange;
+    }
+
+    /**
+     * Starts watching on a daemon thread.
+     *
+     * @throws IOException If the directory cannot be watched.
+     */
+    public synchronized void start() throws IOException {
+        assert watchService == null : "Watcher should only be started once";
+        watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        WatchService service = watchService;
+        Thread.ofPlatform().name("monday-file-watcher").daemon().start(() -> watch(service));
+    }
+
+    private void watch(WatchService service) {
+        try {
+            while (true) {
+                if (!isRelevant(service.take())) {
+                    continue;
+                }
+                // Wait for the rest of the burst, so one save is reported once
+                WatchKey key;
+                while ((key = service.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    key.pollEvents();
+                    key.reset();
+                }
+                try {
+                    onChange.run();
+                } catch (RuntimeException e) {
+                    System.err.println("Warning: Couldn't catch up with changed files. " + e.getMessage());
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Closed; stop watching
+        }
+    }
+
+    private boolean isRelevant(WatchKey key) {
+        boolean isRelevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || event.context().toString().startsWith(fileNamePrefix)) {
+                isRelevant = true;
+            }
+        }
+        key.reset();
+        return isRelevant;
+    }
+
+    /**
+     * Stops watching.
+     */
+    @Override
+    public synchronized void close() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            System.err.println("Warning: Couldn't stop watching your data files.");
+        }
+        watchService = null;
+    }
+}
@@ -0,0 +1,57 @@
+package monday.storage;
+
+import monday.task.LoadResult;
+import monday.task.Task;
+import monday.task.TaskEdit;
+import monday.task.TaskList;
+
+import java.util.List;
+
+/**
+ * Storage that keeps tasks in memory only, so nothing survives the process.
+ * Meant for benchmarks and tests that should measure commands without disk I/O.
+ * Tasks are kept by reference rather than copied, the way a cache would hold them.
+ */
+public class InMemoryStorage implements Storage {
+
+    private TaskList storedTasks;
+    private int journalEntryCount;
+
+    /**
+     * Creates an empty in-memory storage.
+     */
+    public InMemoryStorage() {
+        this(List.of());
+    }
+
+    /**
+     * Creates an in-memory storage that starts out holding the given tasks.
+     *
+     * @param tasks The tasks to start with.
+     */
+    public InMemoryStorage(List<Task> tasks) {
+        storedTasks = new TaskList(tasks);
+    }
+
+    @Override
+    public synchronized LoadResult loadTasks() {
+        return new LoadResult(storedTasks.getTasks(), 0);
+    }
+
+    @Override
+    public synchronized void saveTasks(List<Task> tasks) {
+        storedTasks = new TaskList(tasks);
+        journalEntryCount = 0;
+    }
+
+    @Override
+    public synchronized void appendEdit(TaskEdit edit) {
+        edit.applyTo(storedTasks);
+        journalEntryCount++;
+    }
+
+    @Override
+    public synchronized int getJournalEntryCount() {
+        return journalEntryCount;
+    }
+}
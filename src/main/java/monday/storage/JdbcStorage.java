@@ -0,0 +1,363 @@
+package monday.storage;
+
+import monday.exception.MondayStorageException;
+import monday.task.Deadline;
+import monday.task.DescriptionPool;
+import monday.task.Event;
+import monday.task.LoadResult;
+import monday.task.Task;
+import monday.task.TaskEdit;
+import monday.task.ToDo;
+import monday.util.LatencyHistogram;
+import monday.util.Metrics;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Storage that keeps tasks in an embedded database through JDBC, one row per task.
+ * Adding, deleting or marking a task is a single-row statement, so an edit costs the same
+ * however long the list is, and nothing needs to be journaled or compacted.
+ *
+ * <p>Rows are ordered by a sort key rather than by task number, so inserting or deleting a task
+ * does not renumber the rows after it. Keys start out spaced apart; a task inserted between two
+ * others takes the key halfway between them, and keys are only respread once a gap runs out.
+ *
+ * <p>Works with any JDBC driver on the class path that accepts the standard SQL used here,
+ * e.g. H2 with {@code jdbc:h2:file:./data/monday}.
+ */
+public class JdbcStorage implements Storage {
+
+    private static final long KEY_GAP = 1L << 16;
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS tasks (sort_key BIGINT PRIMARY KEY, type CHAR(1) NOT NULL,"
+                + " done BOOLEAN NOT NULL, description VARCHAR(4096) NOT NULL,"
+                + " start_time TIMESTAMP, end_time TIMESTAMP)",
+        "CREATE INDEX IF NOT EXISTS tasks_start_time ON tasks (start_time)",
+        "CREATE INDEX IF NOT EXISTS tasks_end_time ON tasks (end_time)",
+        "CREATE INDEX IF NOT EXISTS tasks_done ON tasks (done)"
+    };
+    private static final String SELECT_ALL =
+            "SELECT sort_key, type, done, description, start_time, end_time FROM tasks ORDER BY sort_key";
+    private static final String INSERT =
+            "INSERT INTO tasks (sort_key, type, done, description, start_time, end_time) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String DELETE = "DELETE FROM tasks WHERE sort_key = ?";
+    private static final String MARK = "UPDATE tasks SET done = ? WHERE sort_key = ?";
+    private static final String MOVE = "UPDATE tasks SET sort_key = ? WHERE sort_key = ?";
+
+    private static final LatencyHistogram LOAD_TIMER = Metrics.GLOBAL.timer("storage.load");
+    private static final LatencyHistogram SAVE_TIMER = Metrics.GLOBAL.timer("storage.save");
+    private static final LatencyHistogram JOURNAL_TIMER = Metrics.GLOBAL.timer("storage.journal");
+
+    private final String url;
+    private final DescriptionPool descriptionPool;
+    private Connection connection;
+    private PreparedStatement insertStatement;
+    private PreparedStatement deleteStatement;
+    private PreparedStatement markStatement;
+
+    // Sort keys of the stored rows in task order, so task numbers map to rows without a query
+    private long[] keys = new long[16];
+    private int keyCount;
+    private boolean isLoaded;
+
+    /**
+     * Creates a new JdbcStorage for the database at the given JDBC URL.
+     * The database is opened on first use.
+     *
+     * @param url The JDBC URL of the database.
+     * @param descriptionPool The pool for loaded descriptions, or null to keep every description separate.
+     */
+    public JdbcStorage(String url, DescriptionPool descriptionPool) {
+        this.url = url;
+        this.descriptionPool = descriptionPool;
+    }
+
+    @Override
+    public synchronized LoadResult loadTasks() throws MondayStorageException {
+        long startTime = System.nanoTime();
+        try {
+            openIfNeeded();
+            List<Task> tasks = new ArrayList<>();
+            int corruptedCount = 0;
+            keyCount = 0;
+            try (Statement statement = connection.createStatement();
+                    ResultSet rows = statement.executeQuery(SELECT_ALL)) {
+                while (rows.next()) {
+                    Task task = readTask(rows);
+                    if (task == null) {
+                        corruptedCount++;
+                        System.err.println("Ugh. Skipping corrupted row " + rows.getLong(1));
+                        continue;
+                    }
+                    tasks.add(task);
+                    insertKey(keyCount, rows.getLong(1));
+                }
+            }
+            isLoaded = true;
+            return new LoadResult(tasks, corruptedCount);
+        } catch (SQLException e) {
+            throw new MondayStorageException("Ugh. I can't read your task database. " + e.getMessage());
+        } finally {
+            LOAD_TIMER.record(System.nanoTime() - startTime);
+        }
+    }
+
+    @Override
+    public synchronized void saveTasks(List<Task> tasks) throws MondayStorageException {
+        long startTime = System.nanoTime();
+        try {
+            openIfNeeded();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("DELETE FROM tasks");
+                keyCount = 0;
+                for (Task task : tasks) {
+                    long key = (keyCount + 1) * KEY_GAP;
+                    bindTask(insertStatement, key, task);
+                    insertStatement.addBatch();
+                    insertKey(keyCount, key);
+                    if (keyCount % BATCH_SIZE == 0) {
+                        insertStatement.executeBatch();
+                    }
+                }
+                insertStatement.executeBatch();
+                connection.commit();
+                isLoaded = true;
+            } catch (SQLException e) {
+                connection.rollback();
+                isLoaded = false;
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new MondayStorageException("Ugh. I couldn't save your tasks. " + e.getMessage());
+        } finally {
+            SAVE_TIMER.record(System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Applies a single edit to the database with one statement.
+     *
+     * @param edit The edit to persist.
+     * @throws MondayStorageException If the tasks were never loaded or saved, or the statement fails.
+     */
+    @Override
+    public synchronized void appendEdit(TaskEdit edit) throws MondayStorageException {
+        if (!isLoaded) {
+            throw new MondayStorageException("Ugh. I can't apply changes to a database I never read.");
+        }
+
+        long startTime = System.nanoTime();
+        int index = edit.getTaskNumber() - 1;
+        try {
+            switch (edit.getKind()) {
+            case ADD:
+                long key = getKeyForInsert(index);
+                bindTask(insertStatement, key, edit.getTask());
+                insertStatement.executeUpdate();
+                insertKey(index, key);
+                break;
+            case DELETE:
+                deleteStatement.setLong(1, keys[index]);
+                deleteStatement.executeUpdate();
+                removeKey(index);
+                break;
+            case MARK:
+                markStatement.setBoolean(1, edit.isDone());
+                markStatement.setLong(2, keys[index]);
+                markStatement.executeUpdate();
+                break;
+            default:
+                throw new AssertionError("Unknown edit kind: " + edit.getKind());
+            }
+        } catch (SQLException e) {
+            // The rows may no longer match the keys; the caller's full save puts both right
+            isLoaded = false;
+            throw new MondayStorageException("Ugh. I couldn't save your change. " + e.getMessage());
+        } finally {
+            JOURNAL_TIMER.record(System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Always 0: every edit is already stored in its row, so nothing waits for a full save.
+     *
+     * @return 0.
+     */
+    @Override
+    public int getJournalEntryCount() {
+        return 0;
+    }
+
+    /**
+     * Closes the database connection. It is reopened if the storage is used again.
+     */
+    @Override
+    public synchronized void close() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            System.err.println("Warning: Couldn't close the task database. " + e.getMessage());
+        }
+        connection = null;
+        isLoaded = false;
+    }
+
+    private void openIfNeeded() throws SQLException {
+        if (connection != null) {
+            return;
+        }
+        connection = DriverManager.getConnection(url);
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : SCHEMA) {
+                statement.execute(sql);
+            }
+        }
+        insertStatement = connection.prepareStatement(INSERT);
+        deleteStatement = connection.prepareStatement(DELETE);
+        markStatement = connection.prepareStatement(MARK);
+    }
+
+    /**
+     * Gets a free sort key for a task inserted at the given index, respreading keys if needed.
+     */
+    private long getKeyForInsert(int index) throws SQLException {
+        long before = index == 0 ? 0 : keys[index - 1];
+        if (index == keyCount) {
+            return before + KEY_GAP;
+        }
+        if (keys[index] - before < 2) {
+            respreadKeys();
+            before = index == 0 ? 0 : keys[index - 1];
+        }
+        return before + (keys[index] - before) / 2;
+    }
+
+    /**
+     * Moves every row back to evenly spaced keys, in one transaction.
+     * Rows first move to negative keys so no new key collides with an old one.
+     */
+    private void respreadKeys() throws SQLException {
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement();
+                PreparedStatement move = connection.prepareStatement(MOVE)) {
+            statement.executeUpdate("UPDATE tasks SET sort_key = -sort_key");
+            for (int i = 0; i < keyCount; i++) {
+                long key = (i + 1) * KEY_GAP;
+                move.setLong(1, key);
+                move.setLong(2, -keys[i]);
+                move.addBatch();
+                keys[i] = key;
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    move.executeBatch();
+                }
+            }
+            move.executeBatch();
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private void insertKey(int index, long key) {
+        if (keyCount == keys.length) {
+            keys = Arrays.copyOf(keys, keyCount * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, keyCount - index);
+        keys[index] = key;
+        keyCount++;
+    }
+
+    private void removeKey(int index) {
+        System.arraycopy(keys, index + 1, keys, index, keyCount - index - 1);
+        keyCount--;
+    }
+
+    private static void bindTask(PreparedStatement statement, long key, Task task) throws SQLException {
+        statement.setLong(1, key);
+        statement.setBoolean(3, task.isDone());
+        statement.setString(4, task.getDescription());
+        if (task instanceof Deadline) {
+            statement.setString(2, "D");
+            statement.setObject(5, ((Deadline) task).getByDateTime());
+            statement.setNull(6, Types.TIMESTAMP);
+        } else if (task instanceof Event) {
+            statement.setString(2, "E");
+            statement.setObject(5, ((Event) task).getFromDateTime());
+            statement.setObject(6, ((Event) task).getToDateTime());
+        } else {
+            statement.setString(2, "T");
+            statement.setNull(5, Types.TIMESTAMP);
+            statement.setNull(6, Types.TIMESTAMP);
+        }
+    }
+
+    /**
+     * Reads a task from the current row.
+     *
+     * @return The task, or null if the row does not describe a valid task.
+     */
+    private Task readTask(ResultSet row) throws SQLException {
+        String description = row.getString(4);
+        if (description == null || description.isBlank()) {
+            return null;
+        }
+        if (descriptionPool != null) {
+            description = descriptionPool.intern(description);
+        }
+        // LocalDateTime maps straight to TIMESTAMP, unlike java.sql.Timestamp, which goes through the
+        // default time zone and shifts times in a daylight-saving gap
+        LocalDateTime start = row.getObject(5, LocalDateTime.class);
+        LocalDateTime end = row.getObject(6, LocalDateTime.class);
+
+        String type = row.getString(2);
+        if (type == null) {
+            return null;
+        }
+
+        Task task;
+        switch (type.trim()) {
+        case "T":
+            task = new ToDo(description);
+            break;
+        case "D":
+            if (start == null) {
+                return null;
+            }
+            task = new Deadline(description, start);
+            break;
+        case "E":
+            if (start == null || end == null) {
+                return null;
+            }
+            task = new Event(description, start, end);
+            break;
+        default:
+            return null;
+        }
+        if (row.getBoolean(3)) {
+            task.markAsDone();
+        }
+        return task;
+    }
+}
@@ -0,0 +1,309 @@
+package monday.storage;
+
+import monday.exception.MondayStorageException;
+import monday.task.DescriptionPool;
+import monday.task.Task;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Storage that splits tasks into fixed-size segment files listed by a small manifest.
+ * A save only rewrites the segments whose tasks changed since the last save or load, and a load
+ * reads and parses all segments in parallel. Segments use the same line format as the single
+ * storage file, and edits are journaled exactly as in FileStorage.
+ *
+ * <p>Segments are positional: segment i holds tasks i * segmentSize onwards. Marking or editing tasks
+ * or adding them at the end rewrites only the segments they are in, but adding or deleting a task
+ * shifts every later task, so every segment from that point on is rewritten.
+ *
+ * <p>Segments live in {@code <file>.segments/}. Each save writes changed segments under new names
+ * and then atomically replaces the manifest, so an interrupted save leaves the previous state intact.
+ * If there is no manifest yet, the single storage file is read instead and is split into segments
+ * on the first save. The manifest records the segment size; if it differs from this storage's, the
+ * tasks are loaded as they were split and split again at the new size on the next save.
+ */
+public class ShardedStorage extends FileStorage {
+
+    /** Number of tasks per segment used when none is given */
+    public static final int DEFAULT_SEGMENT_SIZE = 1000;
+
+    private static final String MANIFEST_NAME = "manifest";
+    private static final String MANIFEST_HEADER = "# monday segments v1";
+    private static final String SEGMENT_SIZE_KEY = "segment-size ";
+    private static final String GENERATION_KEY = "generation ";
+
+    private final int segmentSize;
+    private final Path segmentDir;
+    private final Path manifestPath;
+    private long generation;
+    private int listedSegmentSize;
+    private List<Segment> segments = new ArrayList<>();
+
+    /**
+     * Creates a new ShardedStorage instance with the default segment size.
+     *
+     * @param dataDirName The name of the data directory.
+     * @param fileName The name of the storage file the segments replace.
+     */
+    public ShardedStorage(String dataDirName, String fileName) {
+        this(dataDirName, fileName, null, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a new ShardedStorage instance.
+     *
+     * @param dataDirName The name of the data directory.
+     * @param fileName The name of the storage file the segments replace.
+     * @param descriptionPool The pool for loaded descriptions, or null to keep every description separate.
+     * @param segmentSize The number of tasks per segment file.
+     */
+    public ShardedStorage(String dataDirName, String fileName, DescriptionPool descriptionPool, int segmentSize) {
+        super(dataDirName, fileName, descriptionPool);
+        assert segmentSize > 0 : "Segment size should be positive";
+        this.segmentSize = segmentSize;
+        this.segmentDir = Paths.get(dataDirName).resolve(fileName + ".segments");
+        this.manifestPath = segmentDir.resolve(MANIFEST_NAME);
+    }
+
+    /**
+     * Gets the number of segment files the tasks are currently split into.
+     *
+     * @return The segment count.
+     */
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    StoredSnapshot readSnapshot() throws IOException {
+        if (!Files.exists(manifestPath)) {
+            // Not split yet: read the single file, and write every segment on the next save
+            segments = new ArrayList<>();
+            generation = 0;
+            return super.readSnapshot();
+        }
+
+        byte[] manifest = Files.readAllBytes(manifestPath);
+        List<Segment> listedSegments = parseManifest(manifest);
+        boolean isResized = listedSegmentSize != segmentSize;
+        List<SegmentContent> contents;
+        try {
+            contents = IntStream.range(0, listedSegments.size())
+                    .parallel()
+                    .mapToObj(i -> readSegment(listedSegments.get(i)))
+                    .toList();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        List<Task> tasks = new ArrayList<>();
+        List<Segment> loadedSegments = new ArrayList<>();
+        int corruptedCount = 0;
+        long byteCount = manifest.length;
+        for (int i = 0; i < contents.size(); i++) {
+            SegmentContent content = contents.get(i);
+            tasks.addAll(content.tasks);
+            corruptedCount += content.corruptedCount;
+            byteCount += content.byteCount;
+            // A damaged segment, or one of another size, keeps no tasks, so the next save rewrites it
+            Segment segment = listedSegments.get(i);
+            loadedSegments.add(content.isIntact && !isResized ? segment.withTasks(content.tasks) : segment);
+        }
+        segments = loadedSegments;
+        return new StoredSnapshot(tasks, corruptedCount, checksum(manifest), byteCount);
+    }
+
+    @Override
+    StoredSnapshot writeSnapshot(List<Task> tasks) throws IOException {
+        Files.createDirectories(segmentDir);
+        long nextGeneration = generation + 1;
+        int segmentCount = (tasks.size() + segmentSize - 1) / segmentSize;
+
+        List<Segment> savedSegments = new ArrayList<>(segmentCount);
+        long byteCount = 0;
+        for (int i = 0; i < segmentCount; i++) {
+            int from = i * segmentSize;
+            int to = Math.min(from + segmentSize, tasks.size());
+            Segment previous = i < segments.size() ? segments.get(i) : null;
+            if (previous != null && previous.isUnchanged(tasks, from, to)) {
+                savedSegments.add(previous);
+                continue;
+            }
+
+            byte[] content = compressIfEnabled(encodeContent(tasks, from, to));
+            String segmentName = "segment-" + i + "-" + nextGeneration + ".txt";
+            Files.write(segmentDir.resolve(segmentName), content);
+            byteCount += content.length;
+            savedSegments.add(new Segment(segmentName, checksum(content), to - from)
+                    .withTasks(tasks.subList(from, to)));
+        }
+
+        byte[] manifest = encodeManifest(savedSegments, nextGeneration);
+        Path manifestTemp = segmentDir.resolve(MANIFEST_NAME + ".tmp");
+        Files.write(manifestTemp, manifest);
+        Files.move(manifestTemp, manifestPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        deleteUnlistedSegments(savedSegments);
+        segments = savedSegments;
+        generation = nextGeneration;
+        return new StoredSnapshot(tasks, 0, checksum(manifest), byteCount + manifest.length);
+    }
+
+    /**
+     * Lists no backups: only the single storage file is backed up, and segments replace it.
+     *
+     * @return An empty list.
+     */
+    @Override
+    public List<String> getBackupNames() {
+        return List.of();
+    }
+
+    @Override
+    public void restoreBackup(String name) throws MondayStorageException {
+        throw new MondayStorageException("Ugh. I don't keep backups of tasks stored like this.");
+    }
+
+    private SegmentContent readSegment(Segment segment) {
+        try {
+            byte[] content = Files.readAllBytes(segmentDir.resolve(segment.fileName));
+            boolean isMatching = checksum(content) == segment.checksum;
+            if (!isMatching) {
+                System.err.println("Ugh. Segment " + segment.fileName + " doesn't match the manifest.");
+            }
+            List<Task> tasks = new ArrayList<>(segment.taskCount);
+            int corruptedCount = parseContent(content, tasks);
+            return new SegmentContent(tasks, corruptedCount, content.length, isMatching && corruptedCount == 0);
+        } catch (NoSuchFileException e) {
+            System.err.println("Ugh. Segment " + segment.fileName + " is missing.");
+            return new SegmentContent(new ArrayList<>(), segment.taskCount, 0, false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Segment> parseManifest(byte[] manifest) throws IOException {
+        String[] lines = new String(manifest, StandardCharsets.UTF_8).split("\\r\\n|\\r|\\n");
+        if (lines.length < 3 || !lines[0].equals(MANIFEST_HEADER) || !lines[1].startsWith(SEGMENT_SIZE_KEY)
+                || !lines[2].startsWith(GENERATION_KEY)) {
+            throw new IOException("Unreadable segment manifest " + manifestPath);
+        }
+
+        List<Segment> listedSegments = new ArrayList<>();
+        try {
+            listedSegmentSize = Integer.parseInt(lines[1].substring(SEGMENT_SIZE_KEY.length()));
+            generation = Long.parseLong(lines[2].substring(GENERATION_KEY.length()));
+            for (int i = 3; i < lines.length; i++) {
+                if (lines[i].isBlank()) {
+                    continue;
+                }
+                // Format: <file name> <task count> <checksum>
+                String[] parts = lines[i].trim().split(" ");
+                listedSegments.add(new Segment(parts[0], Long.parseLong(parts[2]), Integer.parseInt(parts[1])));
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Unreadable segment manifest " + manifestPath);
+        }
+        return listedSegments;
+    }
+
+    private byte[] encodeManifest(List<Segment> listedSegments, long manifestGeneration) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(MANIFEST_HEADER).append(System.lineSeparator());
+        sb.append(SEGMENT_SIZE_KEY).append(segmentSize).append(System.lineSeparator());
+        sb.append(GENERATION_KEY).append(manifestGeneration).append(System.lineSeparator());
+        for (Segment segment : listedSegments) {
+            sb.append(segment.fileName).append(' ').append(segment.taskCount).append(' ')
+                    .append(segment.checksum).append(System.lineSeparator());
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void deleteUnlistedSegments(List<Segment> listedSegments) throws IOException {
+        Set<String> listedNames = new HashSet<>();
+        for (Segment segment : listedSegments) {
+            listedNames.add(segment.fileName);
+        }
+        try (var files = Files.list(segmentDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (name.startsWith("segment-") && !listedNames.contains(name)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * One segment file as listed in the manifest, with the tasks it held when last read or written.
+     * The tasks and their done flags are kept so a save can tell whether the segment changed.
+     */
+    private static final class Segment {
+        private final String fileName;
+        private final long checksum;
+        private final int taskCount;
+        private final Task[] tasks;
+        private final boolean[] doneFlags;
+
+        private Segment(String fileName, long checksum, int taskCount) {
+            this(fileName, checksum, taskCount, null);
+        }
+
+        private Segment(String fileName, long checksum, int taskCount, List<Task> tasks) {
+            this.fileName = fileName;
+            this.checksum = checksum;
+            this.taskCount = taskCount;
+            this.tasks = tasks == null ? null : tasks.toArray(new Task[0]);
+            this.doneFlags = new boolean[this.tasks == null ? 0 : this.tasks.length];
+            for (int i = 0; i < doneFlags.length; i++) {
+                doneFlags[i] = this.tasks[i].isDone();
+            }
+        }
+
+        private Segment withTasks(List<Task> segmentTasks) {
+            return new Segment(fileName, checksum, taskCount, segmentTasks);
+        }
+
+        private boolean isUnchanged(List<Task> allTasks, int from, int to) {
+            if (tasks == null || tasks.length != to - from) {
+                return false;
+            }
+            for (int i = 0; i < tasks.length; i++) {
+                Task task = allTasks.get(from + i);
+                if (task != tasks[i] || task.isDone() != doneFlags[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Tasks parsed from one segment file.
+     */
+    private static final class SegmentContent {
+        private final List<Task> tasks;
+        private final int corruptedCount;
+        private final long byteCount;
+        private final boolean isIntact;
+
+        private SegmentContent(List<Task> tasks, int corruptedCount, long byteCount, boolean isIntact) {
+            this.tasks = tasks;
+            this.corruptedCount = corruptedCount;
+            this.byteCount = byteCount;
+            this.isIntact = isIntact;
+        }
+    }
+}
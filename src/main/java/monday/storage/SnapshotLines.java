@@ -0,0 +1,73 @@
+package monday.storage;
+
+import monday.task.Task;
+
+import java.util.Arrays;
+
+/**
+ * The non-empty lines of the storage file as last read or written, kept as a 64-bit hash per line
+ * with the task parsed from it (null for a corrupted line).
+ * Lets a file edited by someone else be compared line by line without keeping its text around.
+ */
+class SnapshotLines {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private long[] hashes;
+    private Task[] tasks;
+    private int size;
+
+    /**
+     * Creates an empty set of lines with room for the given number.
+     *
+     * @param capacity The expected number of lines.
+     */
+    SnapshotLines(int capacity) {
+        hashes = new long[Math.max(capacity, 16)];
+        tasks = new Task[hashes.length];
+    }
+
+    /**
+     * Adds a line at the end.
+     *
+     * @param hash The hash of the trimmed line, from hash.
+     * @param task The task on the line, or null if the line is corrupted.
+     */
+    void add(long hash, Task task) {
+        if (size == hashes.length) {
+            hashes = Arrays.copyOf(hashes, size * 2);
+            tasks = Arrays.copyOf(tasks, size * 2);
+        }
+        hashes[size] = hash;
+        tasks[size] = task;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long getHash(int index) {
+        return hashes[index];
+    }
+
+    Task getTask(int index) {
+        return tasks[index];
+    }
+
+    /**
+     * Hashes a trimmed storage file line with 64-bit FNV-1a over its characters.
+     *
+     * @param line The line to hash.
+     * @return The hash.
+     */
+    static long hash(String line) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < line.length(); i++) {
+            hash ^= line.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -1,282 +1,99 @@
 package monday.storage;
 
 import monday.exception.MondayStorageException;
-import monday.task.Deadline;
-import monday.task.Event;
 import monday.task.LoadResult;
 import monday.task.Task;
-import monday.task.ToDo;
-import monday.util.DateTimeParser;
+import monday.task.TaskEdit;
+import monday.task.TaskList;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeParseException;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Handles file storage operations for MONDAY's task list.
- * Provides methods to load tasks from disk and save tasks to disk.
+ * Persists one user's task list.
+ * A storage holds the tasks from the last full save plus the single edits appended since, which
+ * a load applies on top. Implementations decide where and how; FileStorage is the default.
  */
-public class Storage {
-
-    private static final String CORRUPTED_LINE_MESSAGE = "Ugh. Skipping corrupted line ";
-
-    private final String dataDirName;
-    private final String fileName;
-    private final Path dataDir;
-    private final Path filePath;
-    private final Path corruptedFilePath;
-    private LoadResult lastLoadResult;
+public interface Storage {
 
     /**
-     * Creates a new Storage instance with the specified data directory and file name.
+     * Loads the saved tasks with any edits appended since the last save applied.
      *
-     * @param dataDirName The name of the data directory.
-     * @param fileName The name of the storage file.
+     * @return The load result containing tasks and corruption statistics.
+     * @throws MondayStorageException If the tasks cannot be read.
      */
-    public Storage(String dataDirName, String fileName) {
-        this.dataDirName = dataDirName;
-        this.fileName = fileName;
-        this.dataDir = Paths.get(dataDirName);
-        this.filePath = dataDir.resolve(fileName);
-        this.corruptedFilePath = dataDir.resolve(fileName + ".corrupted");
-    }
+    LoadResult loadTasks() throws MondayStorageException;
 
     /**
-     * Loads tasks from the storage file.
-     * If the file does not exist, creates it and returns an empty result.
+     * Saves all tasks, replacing the previous saved tasks and any appended edits.
      *
-     * @return The load result containing tasks and corruption statistics.
-     * @throws MondayStorageException If an I/O error occurs during loading.
+     * @param tasks The tasks to save.
+     * @throws MondayStorageException If the tasks cannot be saved.
      */
-    public LoadResult loadTasks() throws MondayStorageException {
-        try {
-            // Create directory and file if they don't exist
-            if (!Files.exists(dataDir)) {
-                Files.createDirectories(dataDir);
-            }
-            if (!Files.exists(filePath)) {
-                Files.createFile(filePath);
-                return new LoadResult(new ArrayList<>(), 0);
-            }
-
-            List<Task> tasks = new ArrayList<>();
-            ArrayList<String> lines = new ArrayList<>(Files.readAllLines(filePath));
-            int corruptedCount = 0;
-
-            for (int i = 0; i < lines.size(); i++) {
-                String line = lines.get(i).trim();
-
-                // Skip empty lines
-                if (line.isEmpty()) {
-                    continue;
-                }
-
-                try {
-                    Task task = parseTask(line);
-                    if (task != null) {
-                        tasks.add(task);
-                    } else {
-                        // Parse returned null - corrupted line
-                        corruptedCount++;
-                        System.err.println(CORRUPTED_LINE_MESSAGE + (i + 1));
-                        backupCorruptedLine(lines.get(i));
-                    }
-                } catch (Exception e) {
-                    // Exception during parsing - corrupted line
-                    corruptedCount++;
-                    System.err.println(CORRUPTED_LINE_MESSAGE + (i + 1));
-                    backupCorruptedLine(lines.get(i));
-                }
-            }
-
-            LoadResult result = new LoadResult(tasks, corruptedCount);
-            lastLoadResult = result;
-            return result;
-        } catch (IOException e) {
-            throw new MondayStorageException("Ugh. I can't access your data file. " + e.getMessage());
-        }
-    }
+    void saveTasks(List<Task> tasks) throws MondayStorageException;
 
     /**
-     * Gets the result of the last load operation.
+     * Persists a single edit without saving every task again.
      *
-     * @return The last LoadResult.
+     * @param edit The edit to persist.
+     * @throws MondayStorageException If the edit cannot be persisted; saving all tasks still works.
      */
-    public LoadResult getLoadResult() {
-        return lastLoadResult;
-    }
+    void appendEdit(TaskEdit edit) throws MondayStorageException;
 
     /**
-     * Parses a task from a single line of the storage file.
+     * Gets the number of edits appended since the last full save.
      *
-     * @param line The line to parse.
-     * @return The parsed Task, or null if the line is invalid.
+     * @return The number of appended edits.
      */
-    private Task parseTask(String line) {
-        // Split by pipe delimiter with optional spaces
-        String[] parts = line.split("\\s*\\|\\s*");
-
-        // Minimum: type, status, description
-        if (parts.length < 3) {
-            return null;
-        }
-
-        String type = parts[0].trim();
-        boolean isDone = parts[1].trim().equals("1");
-        String description = parts[2].trim();
-
-        // Validate description is not empty
-        if (description.isEmpty()) {
-            return null;
-        }
-
-        Task task;
-
-        switch (type) {
-        case "T":
-            task = new ToDo(description);
-            break;
-        case "D":
-            if (parts.length < 4) {
-                return null;
-            }
-            // Format: D | 0 | description | by: deadline
-            String by = extractFieldValue(parts[3]);
-            // Validate by field is not empty
-            if (by.isEmpty()) {
-                return null;
-            }
-            try {
-                LocalDateTime byDateTime = LocalDateTime.parse(by, DateTimeParser.STORAGE_FORMATTER);
-                task = new Deadline(description, byDateTime);
-            } catch (DateTimeParseException e) {
-                return null;
-            }
-            break;
-        case "E":
-            if (parts.length < 5) {
-                return null;
-            }
-            // Format: E | 0 | description | from: start | to: end
-            String from = extractFieldValue(parts[3]);
-            String to = extractFieldValue(parts[4]);
-            // Validate from and to fields are not empty
-            if (from.isEmpty() || to.isEmpty()) {
-                return null;
-            }
-            try {
-                LocalDateTime fromDateTime = LocalDateTime.parse(from, DateTimeParser.STORAGE_FORMATTER);
-                LocalDateTime toDateTime = LocalDateTime.parse(to, DateTimeParser.STORAGE_FORMATTER);
-                task = new Event(description, fromDateTime, toDateTime);
-            } catch (DateTimeParseException e) {
-                return null;
-            }
-            break;
-        default:
-            // Unknown type, skip this line
-            return null;
-        }
-
-        // Set the done status
-        if (isDone) {
-            task.markAsDone();
-        }
-
-        return task;
-    }
+    int getJournalEntryCount();
 
     /**
-     * Extracts the value from a field part (e.g., "by: Sunday" -> "Sunday").
+     * Checks if another process is writing these tasks, so this storage can only read them.
      *
-     * @param fieldPart The field part to extract from.
-     * @return The extracted value.
+     * @return true if saving and appending edits will fail.
      */
-    private String extractFieldValue(String fieldPart) {
-        String[] parts = fieldPart.split(":", 2);
-        if (parts.length < 2) {
-            return "";
-        }
-        return parts[1].trim();
+    default boolean isReadOnly() {
+        return false;
     }
 
     /**
-     * Backs up a corrupted line to the corrupted file for possible recovery.
+     * Brings loaded tasks up to date with changes stored from outside this storage since: by the
+     * process writing them, if this storage is read-only, or by hand. May take over writing if
+     * that process has gone.
      *
-     * @param line The corrupted line to backup.
+     * @param taskList The loaded tasks, updated in place.
+     * @return The edits applied, in order, or null if the changes cannot be applied one by one and
+     *         the tasks must be loaded again.
+     * @throws MondayStorageException If the changes cannot be read.
      */
-    private void backupCorruptedLine(String line) {
-        try {
-            // Ensure directory exists
-            if (!Files.exists(dataDir)) {
-                Files.createDirectories(dataDir);
-            }
-            // Append to corrupted file (create if doesn't exist)
-            String lineWithNewline = line + System.lineSeparator();
-            Files.write(corruptedFilePath, lineWithNewline.getBytes(),
-                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
-        } catch (IOException e) {
-            // Backup failure should not prevent loading - just warn
-            System.err.println("Warning: Couldn't backup corrupted line.");
-        }
+    default List<TaskEdit> applyExternalChanges(TaskList taskList) throws MondayStorageException {
+        return List.of();
     }
 
     /**
-     * Saves all tasks to the storage file.
+     * Lists the backups of the saved tasks that can be restored, newest first.
      *
-     * @param tasks The list of tasks to save.
-     * @throws MondayStorageException If an I/O error occurs during saving.
+     * @return The names of the backups; empty if this storage keeps none.
+     * @throws MondayStorageException If the backups cannot be listed.
      */
-    public void saveTasks(List<Task> tasks) throws MondayStorageException {
-        try {
-            // Ensure directory exists
-            if (!Files.exists(dataDir)) {
-                Files.createDirectories(dataDir);
-            }
-
-            // Delete existing file if present
-            Files.deleteIfExists(filePath);
-
-            // Create new file
-            Files.createFile(filePath);
-
-            // Encode and write all tasks
-            ArrayList<String> lines = new ArrayList<>();
-            for (Task task : tasks) {
-                lines.add(encodeTask(task));
-            }
-
-            Files.write(filePath, lines);
-        } catch (IOException e) {
-            throw new MondayStorageException("Ugh. I couldn't save your tasks. " + e.getMessage());
-        }
+    default List<String> getBackupNames() throws MondayStorageException {
+        return List.of();
     }
 
     /**
-     * Encodes a task into a string format for storage.
+     * Replaces the saved tasks with a backup, in one step. Edits appended since the last full save
+     * are dropped, so callers save first. Load the tasks again afterwards.
      *
-     * @param task The task to encode.
-     * @return The encoded string representation.
+     * @param name The name of the backup, as listed by getBackupNames.
+     * @throws MondayStorageException If there is no such backup, or it cannot be restored.
      */
-    private String encodeTask(Task task) {
-        String type = task.getTypeIcon().replaceAll("[\\[\\]]", "");
-        String done = task.isDone() ? "1" : "0";
-        String desc = task.getDescription();
+    default void restoreBackup(String name) throws MondayStorageException {
+        throw new MondayStorageException("Ugh. I don't keep backups of tasks stored like this.");
+    }
 
-        if (task instanceof Deadline) {
-            String by = ((Deadline) task).getByForStorage();
-            return String.format("%s | %s | %s | by: %s", type, done, desc, by);
-        } else if (task instanceof Event) {
-            String from = ((Event) task).getFromForStorage();
-            String to = ((Event) task).getToForStorage();
-            return String.format("%s | %s | %s | from: %s | to: %s", type, done, desc, from, to);
-        } else {
-            return String.format("%s | %s | %s", type, done, desc);
-        }
+    /**
+     * Releases anything the storage holds open. Does not save; callers save first.
+     */
+    default void close() {
+        // Nothing to release by default
     }
 }
@@ -0,0 +1,48 @@
+package monday.storage;
+
+import monday.task.Task;
+
+import java.util.List;
+
+/**
+ * Tasks as last fully saved, before any journaled edits are replayed.
+ * Carries the checksum that ties journals to this saved state, and the bytes read or written for it.
+ */
+class StoredSnapshot {
+
+    private final List<Task> tasks;
+    private final int corruptedLineCount;
+    private final long checksum;
+    private final long byteCount;
+
+    /**
+     * Creates a new stored snapshot.
+     *
+     * @param tasks The saved tasks.
+     * @param corruptedLineCount The number of corrupted lines that were skipped.
+     * @param checksum The checksum of the saved state.
+     * @param byteCount The number of bytes read or written to load or save this state.
+     */
+    StoredSnapshot(List<Task> tasks, int corruptedLineCount, long checksum, long byteCount) {
+        this.tasks = tasks;
+        this.corruptedLineCount = corruptedLineCount;
+        this.checksum = checksum;
+        this.byteCount = byteCount;
+    }
+
+    List<Task> getTasks() {
+        return tasks;
+    }
+
+    int getCorruptedLineCount() {
+        return corruptedLineCount;
+    }
+
+    long getChecksum() {
+        return checksum;
+    }
+
+    long getByteCount() {
+        return byteCount;
+    }
+}
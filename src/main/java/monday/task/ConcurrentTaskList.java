@@ -0,0 +1,145 @@
+package monday.task;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * TaskList that can be read and written from several threads at once.
+ * The tasks are held as an immutable TaskSnapshot. Writes are serialized by a lock and publish
+ * a new snapshot, built in O(log n) by sharing structure with the previous one; reads never lock
+ * and work on whichever snapshot was current when they started.
+ *
+ * <p>Single operations are atomic, but check-then-act sequences (such as validating a task number
+ * and then deleting it) still need the caller to serialize them, as Session does per user.
+ */
+public class ConcurrentTaskList extends TaskList {
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile TaskSnapshot snapshot;
+
+    /**
+     * Creates a new ConcurrentTaskList with the given list of tasks.
+     *
+     * @param tasks The initial list of tasks.
+     */
+    public ConcurrentTaskList(List<Task> tasks) {
+        super();
+        snapshot = TaskSnapshot.of(tasks);
+    }
+
+    /**
+     * Creates a new empty ConcurrentTaskList.
+     */
+    public ConcurrentTaskList() {
+        super();
+        snapshot = TaskSnapshot.empty();
+    }
+
+    @Override
+    public void addTask(Task task) {
+        writeLock.lock();
+        try {
+            snapshot = snapshot.append(task);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void insertTask(int taskNumber, Task task) {
+        writeLock.lock();
+        try {
+            snapshot = snapshot.insert(taskNumber - 1, task);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Task deleteTask(int taskNumber) {
+        writeLock.lock();
+        try {
+            Task task = snapshot.get(taskNumber - 1);
+            snapshot = snapshot.delete(taskNumber - 1);
+            return task;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void markTaskAsDone(int taskNumber) {
+        writeLock.lock();
+        try {
+            snapshot.get(taskNumber - 1).markAsDone();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void markTaskAsNotDone(int taskNumber) {
+        writeLock.lock();
+        try {
+            snapshot.get(taskNumber - 1).markAsNotDone();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void recordEdit(TaskEdit edit) {
+        writeLock.lock();
+        try {
+            super.recordEdit(edit);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void forgetHistory() {
+        writeLock.lock();
+        try {
+            super.forgetHistory();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public TaskEdit undo() {
+        writeLock.lock();
+        try {
+            return super.undo();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public TaskEdit redo() {
+        writeLock.lock();
+        try {
+            return super.redo();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the current version of the tasks without copying it.
+     * The returned list is immutable, so it can be read (or saved) while new commands change this list.
+     *
+     * @return The current snapshot of the tasks.
+     */
+    @Override
+    public List<Task> getTasks() {
+        return snapshot;
+    }
+
+    @Override
+    protected List<Task> view() {
+        return snapshot;
+    }
+}
@@ -1,7 +1,8 @@
 package monday.task;
 
-import monday.util.DateTimeParser;
+import monday.util.DateTimeFormatCache;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 
 /**
@@ -34,13 +35,25 @@ public class Deadline extends Task {
     }
 
     /**
-     * Returns the full description including the due date/time.
+     * Appends the full description including the due date/time.
      *
-     * @return The description with due date/time information.
+     * @param out The destination to append to.
+     * @throws IOException If the destination cannot be written to.
      */
     @Override
-    public String getFullDescription() {
-        return getDescription() + " (by: " + by.format(DateTimeParser.OUTPUT_FORMATTER) + ")";
+    public void appendFullDescription(Appendable out) throws IOException {
+        out.append(getDescription()).append(" (by: ");
+        out.append(DateTimeFormatCache.DISPLAY.format(by)).append(')');
+    }
+
+    /**
+     * Returns the length of the " (by: ...)" suffix.
+     *
+     * @return The estimated length of the due date/time details.
+     */
+    @Override
+    public int getDetailsLengthHint() {
+        return 24;
     }
 
     /**
@@ -49,7 +62,7 @@ public class Deadline extends Task {
      * @return The due date/time formatted for display.
      */
     public String getBy() {
-        return by.format(DateTimeParser.OUTPUT_FORMATTER);
+        return DateTimeFormatCache.DISPLAY.format(by);
     }
 
     /**
@@ -67,7 +80,7 @@ public class Deadline extends Task {
      * @return The due date/time formatted for file storage.
      */
     public String getByForStorage() {
-        return by.format(DateTimeParser.STORAGE_FORMATTER);
+        return DateTimeFormatCache.STORAGE.format(by);
     }
 
     /**
@@ -0,0 +1,70 @@
+package monday.task;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded pool that deduplicates identical task descriptions.
+ * Imported backlogs repeat descriptions like "standup" many times; passing each one through
+ * the pool lets all of those tasks share one String instance.
+ * The pool is direct-mapped by hash code, so it never holds more than its capacity and a
+ * colliding description simply replaces the pooled one.
+ */
+public class DescriptionPool {
+
+    /** Approximate bytes of a compact (Latin-1) String besides its characters: object plus array headers */
+    private static final int STRING_OVERHEAD_BYTES = 40;
+
+    private final String[] slots;
+    private final LongAdder savedBytes = new LongAdder();
+
+    /**
+     * Creates a new pool.
+     *
+     * @param capacity The number of slots, rounded up to a power of two.
+     */
+    public DescriptionPool(int capacity) {
+        assert capacity > 0 : "Pool capacity should be positive";
+        this.slots = new String[Integer.highestOneBit(Math.max(1, capacity - 1)) << 1];
+    }
+
+    /**
+     * Returns the pooled instance equal to the given description, pooling it if there is none.
+     *
+     * @param description The description to deduplicate.
+     * @return An equal description, shared with earlier callers where possible.
+     */
+    public String intern(String description) {
+        int hash = description.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & (slots.length - 1);
+        String pooled = slots[slot];
+        if (pooled != null && pooled.equals(description)) {
+            if (pooled != description) {
+                savedBytes.add(estimateBytes(description));
+            }
+            return pooled;
+        }
+        slots[slot] = description;
+        return description;
+    }
+
+    /**
+     * Estimates the bytes a copy of the description takes, which sharing the pooled instance saves.
+     * Assumes a compact one-byte-per-character string.
+     *
+     * @param description The description.
+     * @return The approximate size in bytes.
+     */
+    public static long estimateBytes(String description) {
+        return STRING_OVERHEAD_BYTES + description.length();
+    }
+
+    /**
+     * Returns the approximate number of bytes saved by sharing descriptions so far, by every caller.
+     * Assumes compact one-byte-per-character strings.
+     *
+     * @return The approximate bytes saved.
+     */
+    public long getSavedBytes() {
+        return savedBytes.sum();
+    }
+}
@@ -0,0 +1,72 @@
+package monday.task;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Bounded undo and redo stacks of task edits.
+ * Once full, recording a new edit forgets the oldest one.
+ */
+public class EditHistory {
+
+    private final int capacity;
+    private final Deque<TaskEdit> undoStack = new ArrayDeque<>();
+    private final Deque<TaskEdit> redoStack = new ArrayDeque<>();
+
+    /**
+     * Creates a new history that remembers up to the given number of edits.
+     *
+     * @param capacity The maximum number of edits that can be undone.
+     */
+    public EditHistory(int capacity) {
+        assert capacity > 0 : "History capacity should be positive";
+        this.capacity = capacity;
+    }
+
+    /**
+     * Records a newly made edit. Anything that could be redone is forgotten.
+     *
+     * @param edit The edit that was made.
+     */
+    public void record(TaskEdit edit) {
+        if (undoStack.size() == capacity) {
+            undoStack.removeLast();
+        }
+        undoStack.push(edit);
+        redoStack.clear();
+    }
+
+    /**
+     * Forgets every edit, so nothing can be undone or redone.
+     */
+    public void clear() {
+        undoStack.clear();
+        redoStack.clear();
+    }
+
+    /**
+     * Removes the most recent edit so it can be undone.
+     *
+     * @return The edit to undo, or null if there is nothing to undo.
+     */
+    public TaskEdit popUndo() {
+        TaskEdit edit = undoStack.poll();
+        if (edit != null) {
+            redoStack.push(edit);
+        }
+        return edit;
+    }
+
+    /**
+     * Removes the most recently undone edit so it can be made again.
+     *
+     * @return The edit to redo, or null if there is nothing to redo.
+     */
+    public TaskEdit popRedo() {
+        TaskEdit edit = redoStack.poll();
+        if (edit != null) {
+            undoStack.push(edit);
+        }
+        return edit;
+    }
+}
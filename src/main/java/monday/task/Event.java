@@ -1,7 +1,8 @@
 package monday.task;
 
-import monday.util.DateTimeParser;
+import monday.util.DateTimeFormatCache;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 
 /**
@@ -37,14 +38,26 @@ public class Event extends Task {
     }
 
     /**
-     * Returns the full description including the time range.
+     * Appends the full description including the time range.
      *
-     * @return The description with start and end time information.
+     * @param out The destination to append to.
+     * @throws IOException If the destination cannot be written to.
      */
     @Override
-    public String getFullDescription() {
-        return getDescription() + " (from: " + from.format(DateTimeParser.OUTPUT_FORMATTER)
-                + " to: " + to.format(DateTimeParser.OUTPUT_FORMATTER) + ")";
+    public void appendFullDescription(Appendable out) throws IOException {
+        out.append(getDescription()).append(" (from: ");
+        out.append(DateTimeFormatCache.DISPLAY.format(from)).append(" to: ");
+        out.append(DateTimeFormatCache.DISPLAY.format(to)).append(')');
+    }
+
+    /**
+     * Returns the length of the " (from: ... to: ...)" suffix.
+     *
+     * @return The estimated length of the time range details.
+     */
+    @Override
+    public int getDetailsLengthHint() {
+        return 46;
     }
 
     /**
@@ -53,7 +66,7 @@ public class Event extends Task {
      * @return The start date/time formatted for display.
      */
     public String getFrom() {
-        return from.format(DateTimeParser.OUTPUT_FORMATTER);
+        return DateTimeFormatCache.DISPLAY.format(from);
     }
 
     /**
@@ -62,7 +75,7 @@ public class Event extends Task {
      * @return The end date/time formatted for display.
      */
     public String getTo() {
-        return to.format(DateTimeParser.OUTPUT_FORMATTER);
+        return DateTimeFormatCache.DISPLAY.format(to);
     }
 
     /**
@@ -89,7 +102,7 @@ public class Event extends Task {
      * @return The start date/time formatted for file storage.
      */
     public String getFromForStorage() {
-        return from.format(DateTimeParser.STORAGE_FORMATTER);
+        return DateTimeFormatCache.STORAGE.format(from);
     }
 
     /**
@@ -98,7 +111,7 @@ public class Event extends Task {
      * @return The end date/time formatted for file storage.
      */
     public String getToForStorage() {
-        return to.format(DateTimeParser.STORAGE_FORMATTER);
+        return DateTimeFormatCache.STORAGE.format(to);
     }
 
     /**
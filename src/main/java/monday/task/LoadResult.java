@@ -10,6 +10,7 @@ public class LoadResult {
 
     private final List<Task> tasks;
     private final int corruptedLineCount;
+    private final long deduplicatedBytes;
 
     /**
      * Creates a new load result with the specified tasks and corruption count.
@@ -18,8 +19,20 @@ public class LoadResult {
      * @param corruptedLineCount The number of corrupted lines that were skipped.
      */
     public LoadResult(List<Task> tasks, int corruptedLineCount) {
+        this(tasks, corruptedLineCount, 0);
+    }
+
+    /**
+     * Creates a new load result with the specified tasks, corruption count and deduplication savings.
+     *
+     * @param tasks The list of successfully loaded tasks.
+     * @param corruptedLineCount The number of corrupted lines that were skipped.
+     * @param deduplicatedBytes The approximate bytes saved by sharing identical descriptions.
+     */
+    public LoadResult(List<Task> tasks, int corruptedLineCount, long deduplicatedBytes) {
         this.tasks = tasks;
         this.corruptedLineCount = corruptedLineCount;
+        this.deduplicatedBytes = deduplicatedBytes;
     }
 
     /**
@@ -40,6 +53,15 @@ public class LoadResult {
         return corruptedLineCount;
     }
 
+    /**
+     * Returns the approximate number of bytes saved by sharing identical descriptions while loading.
+     *
+     * @return The bytes saved, or 0 if no description pool was used.
+     */
+    public long getDeduplicatedBytes() {
+        return deduplicatedBytes;
+    }
+
     /**
      * Checks whether any corrupted lines were encountered during loading.
      *
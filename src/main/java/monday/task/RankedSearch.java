@@ -0,0 +1,270 @@
+package monday.task;
+
+import monday.util.CaseFolding;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Ranked, typo-tolerant keyword search for find --best.
+ * The query and each description are split into words (runs of letters and digits). A query word
+ * matches a description word exactly, as a prefix of it, or within a small edit distance, with
+ * weaker matches counting for less. Tasks are scored with BM25, so rare words and short
+ * descriptions rank higher, and only the best few are kept in a bounded heap.
+ *
+ * <p>Not thread-safe; each instance keeps scratch buffers for one search at a time.
+ */
+public class RankedSearch {
+
+    private static final double EXACT_WEIGHT = 1.0;
+    private static final double PREFIX_WEIGHT = 0.5;
+    private static final double TYPO_WEIGHT = 0.3;
+
+    // Standard BM25 parameters: term frequency saturation and description length normalisation
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final String[] queryWords;
+    private final int[] maxEdits;
+    private final long[] letterMasks;
+
+    private int[] previousRow = new int[16];
+    private int[] currentRow = new int[16];
+    private int[] rowBeforePrevious = new int[16];
+
+    /**
+     * Creates a search for the given query.
+     *
+     * @param query The words to search for, separated by spaces or punctuation.
+     */
+    public RankedSearch(String query) {
+        queryWords = tokenize(CaseFolding.fold(query));
+        maxEdits = new int[queryWords.length];
+        letterMasks = new long[queryWords.length];
+        for (int i = 0; i < queryWords.length; i++) {
+            maxEdits[i] = getMaxEdits(queryWords[i].length());
+            letterMasks[i] = getLetterMask(queryWords[i], 0, queryWords[i].length());
+        }
+    }
+
+    /**
+     * Checks if the query has any words to search for.
+     *
+     * @return true if the query has no letters or digits.
+     */
+    public boolean isEmpty() {
+        return queryWords.length == 0;
+    }
+
+    /**
+     * Finds the tasks that best match the query, best first.
+     * Tasks with equal scores keep their list order.
+     *
+     * @param tasks The tasks to search.
+     * @param limit The maximum number of tasks to return.
+     * @return The best matches, with their 1-indexed task numbers.
+     */
+    public SearchResult search(List<Task> tasks, int limit) {
+        assert limit > 0 : "Limit should be positive";
+        int termCount = queryWords.length;
+
+        // Pass 1: weigh every query word against every task, keeping only tasks that match something
+        int[] candidateNumbers = new int[16];
+        int[] candidateLengths = new int[16];
+        double[] candidateWeights = new double[16 * Math.max(termCount, 1)];
+        int candidateCount = 0;
+        int[] documentFrequencies = new int[termCount];
+        double[] weights = new double[termCount];
+        long totalWords = 0;
+        int taskNumber = 0;
+        for (Task task : tasks) {
+            taskNumber++;
+            Arrays.fill(weights, 0);
+            int wordCount = weighWords(task.getFoldedDescription(), weights);
+            totalWords += wordCount;
+            if (!hasAnyWeight(weights)) {
+                continue;
+            }
+            for (int term = 0; term < termCount; term++) {
+                if (weights[term] > 0) {
+                    documentFrequencies[term]++;
+                }
+            }
+            if (candidateCount == candidateNumbers.length) {
+                candidateNumbers = Arrays.copyOf(candidateNumbers, candidateCount * 2);
+                candidateLengths = Arrays.copyOf(candidateLengths, candidateCount * 2);
+                candidateWeights = Arrays.copyOf(candidateWeights, candidateCount * 2 * termCount);
+            }
+            candidateNumbers[candidateCount] = taskNumber;
+            candidateLengths[candidateCount] = wordCount;
+            System.arraycopy(weights, 0, candidateWeights, candidateCount * termCount, termCount);
+            candidateCount++;
+        }
+
+        // Pass 2: score the candidates, keeping the best in a min-heap of at most limit entries
+        int taskCount = taskNumber;
+        double averageLength = taskCount == 0 ? 1 : Math.max(1.0, (double) totalWords / taskCount);
+        double[] idf = new double[termCount];
+        for (int term = 0; term < termCount; term++) {
+            double frequency = documentFrequencies[term];
+            idf[term] = Math.log(1 + (taskCount - frequency + 0.5) / (frequency + 0.5));
+        }
+        double[] scores = new double[candidateCount];
+        PriorityQueue<Integer> best = new PriorityQueue<>(Math.min(limit, candidateCount) + 1,
+                (a, b) -> scores[a] != scores[b] ? Double.compare(scores[a], scores[b]) : Integer.compare(b, a));
+        for (int candidate = 0; candidate < candidateCount; candidate++) {
+            double lengthNorm = K1 * (1 - B + B * candidateLengths[candidate] / averageLength);
+            double score = 0;
+            for (int term = 0; term < termCount; term++) {
+                double frequency = candidateWeights[candidate * termCount + term];
+                score += idf[term] * frequency * (K1 + 1) / (frequency + lengthNorm);
+            }
+            scores[candidate] = score;
+            if (best.size() < limit) {
+                best.add(candidate);
+            } else if (score > scores[best.peek()]) {
+                best.poll();
+                best.add(candidate);
+            }
+        }
+
+        int matchCount = best.size();
+        int[] taskNumbers = new int[matchCount];
+        Task[] matches = new Task[matchCount];
+        for (int i = matchCount - 1; i >= 0; i--) {
+            int candidate = best.poll();
+            taskNumbers[i] = candidateNumbers[candidate];
+            matches[i] = tasks.get(candidateNumbers[candidate] - 1);
+        }
+        return new SearchResult(String.join(" ", queryWords), taskNumbers, matches, matchCount);
+    }
+
+    /**
+     * Adds up how well each query word matches the words of a description.
+     *
+     * @param description The folded description.
+     * @param weights Receives the summed match weight of each query word.
+     * @return The number of words in the description.
+     */
+    private int weighWords(String description, double[] weights) {
+        int wordCount = 0;
+        int length = description.length();
+        int start = 0;
+        while (start < length) {
+            while (start < length && !Character.isLetterOrDigit(description.charAt(start))) {
+                start++;
+            }
+            int end = start;
+            while (end < length && Character.isLetterOrDigit(description.charAt(end))) {
+                end++;
+            }
+            if (end > start) {
+                wordCount++;
+                for (int term = 0; term < queryWords.length; term++) {
+                    weights[term] += weighWord(term, description, start, end);
+                }
+            }
+            start = end;
+        }
+        return wordCount;
+    }
+
+    private double weighWord(int term, String text, int start, int end) {
+        String word = queryWords[term];
+        int wordLength = end - start;
+        if (wordLength >= word.length() && text.startsWith(word, start)) {
+            return wordLength == word.length() ? EXACT_WEIGHT : PREFIX_WEIGHT;
+        }
+        int edits = maxEdits[term];
+        if (edits == 0 || Math.abs(wordLength - word.length()) > edits) {
+            return 0;
+        }
+        // Each edit loses at most one of the query word's letters, so skip words missing too many of them
+        long missingLetters = letterMasks[term] & ~getLetterMask(text, start, end);
+        if (Long.bitCount(missingLetters) > edits) {
+            return 0;
+        }
+        return editDistance(word, text, start, end, edits) <= edits ? TYPO_WEIGHT : 0;
+    }
+
+    /**
+     * Gets the set of characters in a word as a bit mask. Characters may share bits,
+     * which only lets more words through to the exact check.
+     */
+    private static long getLetterMask(String text, int start, int end) {
+        long mask = 0;
+        for (int i = start; i < end; i++) {
+            mask |= 1L << text.charAt(i);
+        }
+        return mask;
+    }
+
+    /**
+     * Computes the optimal string alignment distance (Levenshtein plus swapped neighbours),
+     * giving up early once it must exceed the bound.
+     *
+     * @return The distance, or bound + 1 if it is larger than the bound.
+     */
+    private int editDistance(String word, String text, int start, int end, int bound) {
+        int columns = end - start + 1;
+        if (previousRow.length < columns) {
+            previousRow = new int[columns * 2];
+            currentRow = new int[columns * 2];
+            rowBeforePrevious = new int[columns * 2];
+        }
+        for (int j = 0; j < columns; j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= word.length(); i++) {
+            char wordChar = word.charAt(i - 1);
+            currentRow[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j < columns; j++) {
+                char textChar = text.charAt(start + j - 1);
+                int cost = wordChar == textChar ? 0 : 1;
+                int distance = Math.min(Math.min(currentRow[j - 1] + 1, previousRow[j] + 1),
+                        previousRow[j - 1] + cost);
+                if (i > 1 && j > 1 && wordChar == text.charAt(start + j - 2)
+                        && word.charAt(i - 2) == textChar) {
+                    distance = Math.min(distance, rowBeforePrevious[j - 2] + 1);
+                }
+                currentRow[j] = distance;
+                rowMinimum = Math.min(rowMinimum, distance);
+            }
+            if (rowMinimum > bound) {
+                return bound + 1;
+            }
+            int[] oldest = rowBeforePrevious;
+            rowBeforePrevious = previousRow;
+            previousRow = currentRow;
+            currentRow = oldest;
+        }
+        return previousRow[columns - 1];
+    }
+
+    private static boolean hasAnyWeight(double[] weights) {
+        for (double weight : weights) {
+            if (weight > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets how many typos a query word of this length may contain; short words must match exactly.
+     */
+    private static int getMaxEdits(int wordLength) {
+        if (wordLength <= 3) {
+            return 0;
+        }
+        return wordLength <= 7 ? 1 : 2;
+    }
+
+    private static String[] tokenize(String text) {
+        return Arrays.stream(text.split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .toArray(String[]::new);
+    }
+}
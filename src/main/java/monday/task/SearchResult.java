@@ -0,0 +1,75 @@
+package monday.task;
+
+/**
+ * Tasks matching a search, with their task numbers in the list that was searched.
+ */
+public class SearchResult {
+
+    private final String keyword;
+    private final int[] taskNumbers;
+    private final Task[] tasks;
+    private final int matchCount;
+
+    /**
+     * Creates a new search result. The arrays are used as they are, not copied.
+     *
+     * @param keyword The keyword that was searched for.
+     * @param taskNumbers The 1-indexed task numbers of the matches, in list order.
+     * @param tasks The matching tasks, in list order.
+     * @param matchCount The number of matches held in the arrays.
+     */
+    SearchResult(String keyword, int[] taskNumbers, Task[] tasks, int matchCount) {
+        this.keyword = keyword;
+        this.taskNumbers = taskNumbers;
+        this.tasks = tasks;
+        this.matchCount = matchCount;
+    }
+
+    /**
+     * Gets the keyword that was searched for.
+     *
+     * @return The keyword.
+     */
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Gets the number of matching tasks.
+     *
+     * @return The match count.
+     */
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    /**
+     * Gets the task number of a match.
+     *
+     * @param index The 0-indexed position of the match in this result.
+     * @return The 1-indexed task number in the searched list.
+     */
+    public int getTaskNumber(int index) {
+        assert index >= 0 && index < matchCount : "Match index should be within the result";
+        return taskNumbers[index];
+    }
+
+    /**
+     * Gets a matching task.
+     *
+     * @param index The 0-indexed position of the match in this result.
+     * @return The matching task.
+     */
+    public Task getTask(int index) {
+        assert index >= 0 && index < matchCount : "Match index should be within the result";
+        return tasks[index];
+    }
+
+    int[] getTaskNumbers() {
+        return taskNumbers;
+    }
+
+    Task[] getTasks() {
+        return tasks;
+    }
+}
@@ -1,5 +1,10 @@
 package monday.task;
 
+import monday.util.CaseFolding;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 /**
  * Represents a task in Monday's task list.
  * Each task has a description and a completion status.
@@ -9,7 +14,8 @@ public class Task {
     private static final String TODO_ICON = "[ ]";
 
     private final String description;
-    private boolean isDone;
+    private final String foldedDescription;
+    private volatile boolean isDone;
 
     /**
      * Creates a new task with the given description.
@@ -19,6 +25,7 @@ public class Task {
      */
     public Task(String description) {
         this.description = description;
+        this.foldedDescription = CaseFolding.fold(description);
         this.isDone = false;
     }
 
@@ -63,6 +70,16 @@ public class Task {
         return description;
     }
 
+    /**
+     * Returns the case-folded description used for case-insensitive search.
+     * Folded once when the task is created; the same instance as the description when already folded.
+     *
+     * @return The folded description.
+     */
+    public String getFoldedDescription() {
+        return foldedDescription;
+    }
+
     /**
      * Returns the type-specific icon for this task.
      * Default implementation returns generic icon for backward compatibility.
@@ -76,13 +93,51 @@ public class Task {
 
     /**
      * Returns the full description including type-specific details.
-     * Base implementation returns just the description.
-     * Subclasses override to add date/time information.
      *
      * @return The full description.
      */
     public String getFullDescription() {
-        return description;
+        StringBuilder sb = new StringBuilder(description.length() + getDetailsLengthHint());
+        try {
+            appendFullDescription(sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder never throws
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Appends the full description including type-specific details.
+     * Base implementation appends just the description.
+     * Subclasses override to add date/time information.
+     *
+     * @param out The destination to append to.
+     * @throws IOException If the destination cannot be written to.
+     */
+    public void appendFullDescription(Appendable out) throws IOException {
+        out.append(description);
+    }
+
+    /**
+     * Appends this task in "typeIcon statusIcon fullDescription" format without building
+     * intermediate strings.
+     *
+     * @param out The destination to append to.
+     * @throws IOException If the destination cannot be written to.
+     */
+    public void appendTo(Appendable out) throws IOException {
+        out.append(getTypeIcon()).append(getStatusIcon()).append(' ');
+        appendFullDescription(out);
+    }
+
+    /**
+     * Returns roughly how many characters the type-specific details add to the description.
+     * Used to pre-size buffers when rendering.
+     *
+     * @return The estimated length of the details.
+     */
+    public int getDetailsLengthHint() {
+        return 0;
     }
 
     /**
@@ -92,6 +147,12 @@ public class Task {
      */
     @Override
     public String toString() {
-        return getTypeIcon() + getStatusIcon() + " " + getFullDescription();
+        StringBuilder sb = new StringBuilder(description.length() + getDetailsLengthHint() + 8);
+        try {
+            appendTo(sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder never throws
+        }
+        return sb.toString();
     }
 }
@@ -0,0 +1,180 @@
+package monday.task;
+
+/**
+ * Represents one change made to a task list: adding, deleting or marking a single task.
+ * An edit keeps just the task number, the task and its done status, so undoing it means
+ * applying its inverse rather than restoring a copy of the whole list.
+ */
+public final class TaskEdit {
+
+    /**
+     * Kinds of change a TaskEdit can describe.
+     */
+    public enum Kind {
+        /** A task was inserted at the task number */
+        ADD,
+
+        /** The task at the task number was removed */
+        DELETE,
+
+        /** The task at the task number had its done status set */
+        MARK
+    }
+
+    private final Kind kind;
+    private final int taskNumber;
+    private final Task task;
+    private final boolean isDone;
+    private final boolean wasDone;
+
+    private TaskEdit(Kind kind, int taskNumber, Task task, boolean isDone, boolean wasDone) {
+        this.kind = kind;
+        this.taskNumber = taskNumber;
+        this.task = task;
+        this.isDone = isDone;
+        this.wasDone = wasDone;
+    }
+
+    /**
+     * Creates an edit recording that a task was added.
+     *
+     * @param taskNumber The 1-indexed position the task was added at.
+     * @param task The added task.
+     * @return The edit.
+     */
+    public static TaskEdit added(int taskNumber, Task task) {
+        return new TaskEdit(Kind.ADD, taskNumber, task, task.isDone(), task.isDone());
+    }
+
+    /**
+     * Creates an edit recording that a task was deleted.
+     *
+     * @param taskNumber The 1-indexed position the task was deleted from.
+     * @param task The deleted task.
+     * @return The edit.
+     */
+    public static TaskEdit deleted(int taskNumber, Task task) {
+        return new TaskEdit(Kind.DELETE, taskNumber, task, task.isDone(), task.isDone());
+    }
+
+    /**
+     * Creates an edit recording that a task was marked or unmarked.
+     *
+     * @param taskNumber The 1-indexed position of the task.
+     * @param task The marked task.
+     * @param isDone The done status the task was given.
+     * @param wasDone The done status the task had before.
+     * @return The edit.
+     */
+    public static TaskEdit marked(int taskNumber, Task task, boolean isDone, boolean wasDone) {
+        return new TaskEdit(Kind.MARK, taskNumber, task, isDone, wasDone);
+    }
+
+    /**
+     * Returns the edit that reverses this one.
+     *
+     * @return The inverse edit.
+     */
+    public TaskEdit inverse() {
+        switch (kind) {
+        case ADD:
+            return deleted(taskNumber, task);
+        case DELETE:
+            return added(taskNumber, task);
+        case MARK:
+            return marked(taskNumber, task, wasDone, isDone);
+        default:
+            throw new AssertionError("Unknown edit kind: " + kind);
+        }
+    }
+
+    /**
+     * Applies this edit to a task list.
+     *
+     * @param taskList The task list to change.
+     */
+    public void applyTo(TaskList taskList) {
+        switch (kind) {
+        case ADD:
+            taskList.insertTask(taskNumber, task);
+            break;
+        case DELETE:
+            taskList.deleteTask(taskNumber);
+            break;
+        case MARK:
+            if (isDone) {
+                taskList.markTaskAsDone(taskNumber);
+            } else {
+                taskList.markTaskAsNotDone(taskNumber);
+            }
+            break;
+        default:
+            throw new AssertionError("Unknown edit kind: " + kind);
+        }
+    }
+
+    /**
+     * Checks if this edit can be applied to a list with the given number of tasks.
+     *
+     * @param taskCount The number of tasks in the list.
+     * @return true if the task number is in range for this kind of edit.
+     */
+    public boolean canApplyTo(int taskCount) {
+        int lastTaskNumber = kind == Kind.ADD ? taskCount + 1 : taskCount;
+        return taskNumber >= 1 && taskNumber <= lastTaskNumber;
+    }
+
+    /**
+     * Returns the kind of change.
+     *
+     * @return The edit kind.
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the 1-indexed position of the task that changed.
+     *
+     * @return The task number.
+     */
+    public int getTaskNumber() {
+        return taskNumber;
+    }
+
+    /**
+     * Returns the task that changed.
+     *
+     * @return The task.
+     */
+    public Task getTask() {
+        return task;
+    }
+
+    /**
+     * Returns the done status the task has after this edit.
+     *
+     * @return true if the task is done after this edit.
+     */
+    public boolean isDone() {
+        return isDone;
+    }
+
+    /**
+     * Returns a short past-tense description of this edit, e.g. "removed".
+     *
+     * @return The description.
+     */
+    public String describe() {
+        switch (kind) {
+        case ADD:
+            return "put back";
+        case DELETE:
+            return "removed";
+        case MARK:
+            return isDone ? "marked as done" : "marked as not done";
+        default:
+            throw new AssertionError("Unknown edit kind: " + kind);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package monday.task;
 
+import monday.util.CaseFolding;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -11,7 +13,9 @@ import java.util.List;
 public class TaskList {
 
     private static final int MAX_TASKS = 100;
+    private static final int HISTORY_CAPACITY = 100;
     private final ArrayList<Task> tasks;
+    private final EditHistory history = new EditHistory(HISTORY_CAPACITY);
 
     /**
      * Creates a new TaskList with the given list of tasks.
@@ -38,6 +42,16 @@ public class TaskList {
         tasks.add(task);
     }
 
+    /**
+     * Inserts a task into the list at the given number (1-indexed), shifting later tasks down.
+     *
+     * @param taskNumber The 1-indexed position for the task.
+     * @param task The task to insert.
+     */
+    public void insertTask(int taskNumber, Task task) {
+        tasks.add(taskNumber - 1, task);
+    }
+
     /**
      * Deletes a task from the list by its number (1-indexed).
      *
@@ -66,6 +80,51 @@ public class TaskList {
         tasks.get(taskNumber - 1).markAsNotDone();
     }
 
+    /**
+     * Records an edit made to this list so it can be undone later.
+     *
+     * @param edit The edit that was made.
+     */
+    public void recordEdit(TaskEdit edit) {
+        history.record(edit);
+    }
+
+    /**
+     * Forgets all recorded edits, e.g. after the tasks were changed from elsewhere and the
+     * recorded task numbers may no longer point at the same tasks.
+     */
+    public void forgetHistory() {
+        history.clear();
+    }
+
+    /**
+     * Undoes the most recent edit by applying its inverse.
+     *
+     * @return The inverse edit that was applied, or null if there is nothing to undo.
+     */
+    public TaskEdit undo() {
+        TaskEdit edit = history.popUndo();
+        if (edit == null) {
+            return null;
+        }
+        TaskEdit inverse = edit.inverse();
+        inverse.applyTo(this);
+        return inverse;
+    }
+
+    /**
+     * Redoes the most recently undone edit.
+     *
+     * @return The edit that was applied again, or null if there is nothing to redo.
+     */
+    public TaskEdit redo() {
+        TaskEdit edit = history.popRedo();
+        if (edit != null) {
+            edit.applyTo(this);
+        }
+        return edit;
+    }
+
     /**
      * Gets a task by its number (1-indexed).
      *
@@ -73,7 +132,7 @@ public class TaskList {
      * @return The task at the specified number.
      */
     public Task getTask(int taskNumber) {
-        return tasks.get(taskNumber - 1);
+        return view().get(taskNumber - 1);
     }
 
     /**
@@ -82,7 +141,18 @@ public class TaskList {
      * @return A list of all tasks.
      */
     public List<Task> getTasks() {
-        return new ArrayList<>(tasks);
+        return new ArrayList<>(view());
+    }
+
+    /**
+     * Gets the tasks that read operations work on.
+     * Subclasses may return a snapshot instead of the live list; each read calls this once
+     * so that it sees a single consistent state.
+     *
+     * @return The tasks to read from.
+     */
+    protected List<Task> view() {
+        return tasks;
     }
 
     /**
@@ -94,7 +164,7 @@ public class TaskList {
      */
     public List<Task> filterTasksByDate(LocalDateTime date) {
         List<Task> filteredTasks = new ArrayList<>();
-        for (Task task : tasks) {
+        for (Task task : view()) {
             if (task instanceof Deadline) {
                 Deadline deadline = (Deadline) task;
                 if (deadline.isOnDate(date)) {
@@ -119,22 +189,46 @@ public class TaskList {
      */
     public List<Task> getFilteredTasks(String keyword) {
         List<Task> filteredTasks = new ArrayList<>();
-        String lowerKeyword = keyword.toLowerCase();
-        for (Task task : tasks) {
-            if (task.getDescription().toLowerCase().contains(lowerKeyword)) {
+        String foldedKeyword = CaseFolding.fold(keyword);
+        for (Task task : view()) {
+            if (matchesKeyword(task, foldedKeyword)) {
                 filteredTasks.add(task);
             }
         }
         return filteredTasks;
     }
 
+    /**
+     * Finds the tasks that best match a query, tolerating prefixes and small typos.
+     *
+     * @param query The words to search for.
+     * @param limit The maximum number of tasks to return.
+     * @return The best matches, best first, with their task numbers.
+     */
+    public SearchResult getBestMatches(String query, int limit) {
+        return new RankedSearch(query).search(view(), limit);
+    }
+
+    /**
+     * Checks if a task's description contains a keyword, ignoring case.
+     * Shared by find and the live search preview so both always agree.
+     * Compares against the task's precomputed folded description, so nothing is allocated.
+     *
+     * @param task The task to check.
+     * @param foldedKeyword The keyword, already folded with CaseFolding.fold.
+     * @return true if the description contains the keyword.
+     */
+    public static boolean matchesKeyword(Task task, String foldedKeyword) {
+        return task.getFoldedDescription().contains(foldedKeyword);
+    }
+
     /**
      * Gets the number of tasks in the list.
      *
      * @return The task count.
      */
     public int getTaskCount() {
-        return tasks.size();
+        return view().size();
     }
 
     /**
@@ -143,7 +237,7 @@ public class TaskList {
      * @return true if the list is empty, false otherwise.
      */
     public boolean isEmpty() {
-        return tasks.isEmpty();
+        return view().isEmpty();
     }
 
     /**
@@ -152,7 +246,7 @@ public class TaskList {
      * @return true if at max capacity, false otherwise.
      */
     public boolean isAtMaxCapacity() {
-        return tasks.size() >= MAX_TASKS;
+        return view().size() >= MAX_TASKS;
     }
 
     /**
@@ -162,7 +256,7 @@ public class TaskList {
      * @return true if the task number is valid, false otherwise.
      */
     public boolean isValidTaskNumber(int taskNumber) {
-        return !tasks.isEmpty() && taskNumber >= 1 && taskNumber <= tasks.size();
+        return taskNumber >= 1 && taskNumber <= view().size();
     }
 
     /**
@@ -171,10 +265,11 @@ public class TaskList {
      * @return The error message string.
      */
     public String getInvalidTaskNumberMessage() {
-        if (tasks.isEmpty()) {
+        int taskCount = view().size();
+        if (taskCount == 0) {
             return "Skeptical. You haven't told me to do anything yet.";
         } else {
-            return "Ugh, that task doesn't exist. Pick between 1 and " + tasks.size() + ".";
+            return "Ugh, that task doesn't exist. Pick between 1 and " + taskCount + ".";
         }
     }
 }
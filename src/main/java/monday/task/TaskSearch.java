@@ -0,0 +1,93 @@
+package monday.task;
+
+import monday.util.CaseFolding;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Keyword search over a task list for search-as-you-type.
+ * Remembers its last result: when the next query extends the last one and the list has not
+ * changed, only the previous matches are checked instead of rescanning every task.
+ * Long scans check for cancellation regularly, so a query made stale by more typing stops early.
+ *
+ * <p>Not thread-safe; confine each instance to one thread (e.g. a single search worker).
+ */
+public class TaskSearch {
+
+    private static final int CANCEL_CHECK_INTERVAL = 4096;
+
+    private List<Task> lastTasks;
+    private SearchResult lastResult;
+
+    /**
+     * Finds the tasks whose descriptions contain the keyword, ignoring case, like find does.
+     * The list should be an immutable snapshot (such as TaskList.getTasks() of a ConcurrentTaskList);
+     * a different list instance counts as changed and is scanned in full.
+     *
+     * @param tasks The tasks to search.
+     * @param keyword The keyword to search for.
+     * @param isCancelled Checked during long scans; the search stops if it returns true.
+     * @return The matches, or null if the search was cancelled.
+     */
+    public SearchResult search(List<Task> tasks, String keyword, BooleanSupplier isCancelled) {
+        String foldedKeyword = CaseFolding.fold(keyword);
+        SearchResult result;
+        if (tasks == lastTasks && lastResult != null && foldedKeyword.startsWith(lastResult.getKeyword())) {
+            result = narrow(lastResult, foldedKeyword, isCancelled);
+        } else {
+            result = scan(tasks, foldedKeyword, isCancelled);
+        }
+
+        if (result != null) {
+            lastTasks = tasks;
+            lastResult = result;
+        }
+        return result;
+    }
+
+    private static SearchResult scan(List<Task> tasks, String foldedKeyword, BooleanSupplier isCancelled) {
+        int[] taskNumbers = new int[Math.min(tasks.size(), 16)];
+        Task[] matches = new Task[taskNumbers.length];
+        int matchCount = 0;
+        int taskNumber = 0;
+        for (Task task : tasks) {
+            taskNumber++;
+            if (taskNumber % CANCEL_CHECK_INTERVAL == 0 && isCancelled.getAsBoolean()) {
+                return null;
+            }
+            if (!TaskList.matchesKeyword(task, foldedKeyword)) {
+                continue;
+            }
+            if (matchCount == taskNumbers.length) {
+                int capacity = Math.min(tasks.size(), matchCount * 2);
+                taskNumbers = Arrays.copyOf(taskNumbers, capacity);
+                matches = Arrays.copyOf(matches, capacity);
+            }
+            taskNumbers[matchCount] = taskNumber;
+            matches[matchCount] = task;
+            matchCount++;
+        }
+        return new SearchResult(foldedKeyword, taskNumbers, matches, matchCount);
+    }
+
+    private static SearchResult narrow(SearchResult previous, String foldedKeyword, BooleanSupplier isCancelled) {
+        int[] previousNumbers = previous.getTaskNumbers();
+        Task[] previousTasks = previous.getTasks();
+        int[] taskNumbers = new int[previous.getMatchCount()];
+        Task[] matches = new Task[taskNumbers.length];
+        int matchCount = 0;
+        for (int i = 0; i < previous.getMatchCount(); i++) {
+            if ((i + 1) % CANCEL_CHECK_INTERVAL == 0 && isCancelled.getAsBoolean()) {
+                return null;
+            }
+            if (TaskList.matchesKeyword(previousTasks[i], foldedKeyword)) {
+                taskNumbers[matchCount] = previousNumbers[i];
+                matches[matchCount] = previousTasks[i];
+                matchCount++;
+            }
+        }
+        return new SearchResult(foldedKeyword, taskNumbers, matches, matchCount);
+    }
+}
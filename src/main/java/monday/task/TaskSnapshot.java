@@ -0,0 +1,242 @@
+package monday.task;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable, versioned list of tasks.
+ * Stored as a persistent AVL tree indexed by position: adding, inserting or removing a task
+ * builds a new snapshot in O(log n) that shares every untouched node with the old one,
+ * so a reader holding an older snapshot keeps seeing exactly that version without copying it.
+ * Tasks themselves are shared between versions, so marking a task done shows in all of them.
+ */
+public final class TaskSnapshot extends AbstractList<Task> {
+
+    private static final TaskSnapshot EMPTY = new TaskSnapshot(null);
+
+    private final Node root;
+
+    private TaskSnapshot(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Gets the empty snapshot.
+     *
+     * @return A snapshot with no tasks.
+     */
+    public static TaskSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a snapshot holding the given tasks, in order.
+     * Builds a balanced tree in O(n).
+     *
+     * @param tasks The tasks to hold.
+     * @return A snapshot of the tasks.
+     */
+    public static TaskSnapshot of(List<Task> tasks) {
+        if (tasks instanceof TaskSnapshot) {
+            return (TaskSnapshot) tasks;
+        }
+        Task[] taskArray = tasks.toArray(new Task[0]);
+        return taskArray.length == 0 ? EMPTY : new TaskSnapshot(build(taskArray, 0, taskArray.length));
+    }
+
+    @Override
+    public Task get(int index) {
+        checkIndex(index, size());
+        Node node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.task;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    @Override
+    public Iterator<Task> iterator() {
+        return new InOrderIterator(root);
+    }
+
+    /**
+     * Creates a new snapshot with the task added at the end.
+     *
+     * @param task The task to add.
+     * @return The new snapshot.
+     */
+    public TaskSnapshot append(Task task) {
+        return insert(size(), task);
+    }
+
+    /**
+     * Creates a new snapshot with the task inserted at the given index (0-indexed).
+     *
+     * @param index The index for the task; later tasks shift up by one.
+     * @param task The task to insert.
+     * @return The new snapshot.
+     */
+    public TaskSnapshot insert(int index, Task task) {
+        checkIndex(index, size() + 1);
+        assert task != null : "Task should not be null";
+        return new TaskSnapshot(insert(root, index, task));
+    }
+
+    /**
+     * Creates a new snapshot without the task at the given index (0-indexed).
+     *
+     * @param index The index of the task to remove.
+     * @return The new snapshot.
+     */
+    public TaskSnapshot delete(int index) {
+        checkIndex(index, size());
+        return new TaskSnapshot(remove(root, index));
+    }
+
+    int getHeight() {
+        return heightOf(root);
+    }
+
+    private static void checkIndex(int index, int limit) {
+        if (index < 0 || index >= limit) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + limit);
+        }
+    }
+
+    private static Node build(Task[] tasks, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node(tasks[mid], build(tasks, from, mid), build(tasks, mid + 1, to));
+    }
+
+    private static Node insert(Node node, int index, Task task) {
+        if (node == null) {
+            return new Node(task, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(node.task, insert(node.left, index, task), node.right);
+        }
+        return balance(node.task, node.left, insert(node.right, index - leftSize - 1, task));
+    }
+
+    private static Node remove(Node node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(node.task, remove(node.left, index), node.right);
+        }
+        if (index > leftSize) {
+            return balance(node.task, node.left, remove(node.right, index - leftSize - 1));
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node first = node.right;
+        while (first.left != null) {
+            first = first.left;
+        }
+        return balance(first.task, node.left, remove(node.right, 0));
+    }
+
+    private static Node balance(Task task, Node left, Node right) {
+        int leftHeight = heightOf(left);
+        int rightHeight = heightOf(right);
+        if (leftHeight > rightHeight + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node(left.task, left.left, new Node(task, left.right, right));
+            }
+            return new Node(left.right.task,
+                    new Node(left.task, left.left, left.right.left),
+                    new Node(task, left.right.right, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node(right.task, new Node(task, left, right.left), right.right);
+            }
+            return new Node(right.left.task,
+                    new Node(task, left, right.left.left),
+                    new Node(right.task, right.left.right, right.right));
+        }
+        return new Node(task, left, right);
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Immutable tree node holding one task and the size and height of its subtree.
+     */
+    private static final class Node {
+        private final Task task;
+        private final Node left;
+        private final Node right;
+        private final int size;
+        private final int height;
+
+        private Node(Task task, Node left, Node right) {
+            this.task = task;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    /**
+     * Walks the tree in order using a stack of pending ancestors.
+     */
+    private static final class InOrderIterator implements Iterator<Task> {
+        private final ArrayDeque<Node> pending = new ArrayDeque<>();
+
+        private InOrderIterator(Node root) {
+            pushLeftSpine(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public Task next() {
+            if (pending.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node node = pending.pop();
+            pushLeftSpine(node.right);
+            return node.task;
+        }
+
+        private void pushLeftSpine(Node node) {
+            while (node != null) {
+                pending.push(node);
+                node = node.left;
+            }
+        }
+    }
+}
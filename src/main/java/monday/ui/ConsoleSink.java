@@ -0,0 +1,67 @@
+package monday.ui;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+/**
+ * Output sink that writes to a console stream through a single buffered writer.
+ * Avoids locking and flushing the stream once per line like repeated println calls do.
+ */
+public class ConsoleSink implements OutputSink {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+    private final boolean isAutoFlush;
+
+    /**
+     * Creates a console sink writing to standard output that flushes only on demand,
+     * so a long listing written in chunks still reaches the console in one go.
+     */
+    public ConsoleSink() {
+        this(System.out, false);
+    }
+
+    /**
+     * Creates a console sink writing to the given stream.
+     *
+     * @param out The stream to write to.
+     * @param isAutoFlush true to flush after every write, false to flush only on demand.
+     */
+    public ConsoleSink(OutputStream out, boolean isAutoFlush) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out), BUFFER_SIZE);
+        this.isAutoFlush = isAutoFlush;
+    }
+
+    /**
+     * Writes text to the buffer, flushing it if this sink auto-flushes.
+     *
+     * @param text The text to write.
+     */
+    @Override
+    public void write(String text) {
+        try {
+            writer.write(text);
+            if (isAutoFlush) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            System.err.println("Warning: Couldn't write to the console.");
+        }
+    }
+
+    /**
+     * Flushes buffered text to the underlying stream.
+     */
+    @Override
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            System.err.println("Warning: Couldn't write to the console.");
+        }
+    }
+}
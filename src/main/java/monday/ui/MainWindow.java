@@ -1,8 +1,18 @@
 package monday.ui;
 
 import monday.Monday;
+import monday.task.SearchResult;
+import monday.task.Task;
+import monday.task.TaskSearch;
 
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javafx.animation.PauseTransition;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
@@ -12,6 +22,7 @@ import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 
 /**
  * Main GUI window for MONDAY.
@@ -19,6 +30,10 @@ import javafx.stage.Stage;
  */
 public class MainWindow extends Application {
 
+    private static final String FIND_PREFIX = "find ";
+    private static final Duration SEARCH_DEBOUNCE = Duration.millis(150);
+    private static final int PREVIEW_LIMIT = 20;
+
     private ScrollPane scrollPane;
     private VBox dialogContainer;
     private TextField userInput;
@@ -27,6 +42,18 @@ public class MainWindow extends Application {
 
     private Monday monday;
 
+    // Live search preview: typing "find ..." shows matches before Enter is pressed.
+    // Searches run on one worker thread; each new query bumps the generation, cancelling older ones.
+    private final ExecutorService searchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "monday-search");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final TaskSearch taskSearch = new TaskSearch();
+    private final AtomicLong searchGeneration = new AtomicLong();
+    private PauseTransition searchDebounce;
+    private DialogBox searchPreview;
+
     /**
      * Sets the Monday instance for command execution.
      *
@@ -78,6 +105,17 @@ public class MainWindow extends Application {
         sendButton.setOnMouseClicked(event -> handleUserInput());
         userInput.setOnAction(event -> handleUserInput());
 
+        // Step 4: Preview find results while typing
+        searchDebounce = new PauseTransition(SEARCH_DEBOUNCE);
+        searchDebounce.setOnFinished(event -> startSearch(userInput.getText()));
+        userInput.textProperty().addListener((observable, oldText, newText) -> {
+            if (getSearchKeyword(newText) == null) {
+                cancelSearch();
+            } else {
+                searchDebounce.playFromStart();
+            }
+        });
+
         stage.show();
     }
 
@@ -87,20 +125,147 @@ public class MainWindow extends Application {
      */
     private void handleUserInput() {
         String input = userInput.getText();
+        cancelSearch();
         DialogBox userDialog = new DialogBox(input, true);
         dialogContainer.getChildren().add(userDialog);
 
         userInput.clear();
 
         // Execute command through Monday
+        showResponseFor(input);
+    }
+
+    /**
+     * Executes a command through Monday and displays its response.
+     * If the response is one page of a longer listing, offers a button to load the next page.
+     *
+     * @param input The command to execute.
+     */
+    private void showResponseFor(String input) {
         String response = monday.getResponse(input);
         DialogBox mondayDialog = new DialogBox(response, false);
         dialogContainer.getChildren().add(mondayDialog);
 
+        String nextPageCommand = monday.getNextPageCommand();
+        if (nextPageCommand != null) {
+            Button moreButton = new Button("Show more");
+            moreButton.setOnAction(event -> {
+                dialogContainer.getChildren().remove(moreButton);
+                showResponseFor(nextPageCommand);
+            });
+            dialogContainer.getChildren().add(moreButton);
+        }
+
         // Auto-scroll to bottom
         scrollPane.setVvalue(1.0);
     }
 
+    /**
+     * Gets the keyword of a find command that is still being typed.
+     * Options such as --page are left to the real command, so no preview is shown for them.
+     *
+     * @param text The current input text.
+     * @return The keyword, or null if the text is not a find command worth previewing.
+     */
+    private static String getSearchKeyword(String text) {
+        if (text.length() <= FIND_PREFIX.length()
+                || !text.regionMatches(true, 0, FIND_PREFIX, 0, FIND_PREFIX.length())) {
+            return null;
+        }
+        String keyword = text.substring(FIND_PREFIX.length()).trim();
+        if (keyword.isEmpty() || keyword.contains("--")) {
+            return null;
+        }
+        return keyword;
+    }
+
+    /**
+     * Starts a background search for the find command being typed, cancelling any older one.
+     *
+     * @param text The input text when the debounce delay ran out.
+     */
+    private void startSearch(String text) {
+        String keyword = getSearchKeyword(text);
+        if (keyword == null) {
+            cancelSearch();
+            return;
+        }
+        long generation = searchGeneration.incrementAndGet();
+        List<Task> tasks = monday.getTasks();
+        searchExecutor.execute(() -> {
+            SearchResult result = taskSearch.search(tasks, keyword,
+                    () -> searchGeneration.get() != generation);
+            if (result == null) {
+                return;
+            }
+            String preview = formatPreview(result);
+            Platform.runLater(() -> {
+                if (searchGeneration.get() == generation) {
+                    showSearchPreview(preview);
+                }
+            });
+        });
+    }
+
+    /**
+     * Cancels any pending or running search and removes the preview.
+     */
+    private void cancelSearch() {
+        if (searchDebounce != null) {
+            searchDebounce.stop();
+        }
+        searchGeneration.incrementAndGet();
+        if (searchPreview != null) {
+            dialogContainer.getChildren().remove(searchPreview);
+            searchPreview = null;
+        }
+    }
+
+    private static String formatPreview(SearchResult result) {
+        int matchCount = result.getMatchCount();
+        if (matchCount == 0) {
+            return "Nothing matches \"" + result.getKeyword() + "\" so far.";
+        }
+        StringBuilder preview = new StringBuilder();
+        preview.append(matchCount).append(matchCount == 1 ? " match" : " matches").append(" so far:");
+        int shown = Math.min(matchCount, PREVIEW_LIMIT);
+        for (int i = 0; i < shown; i++) {
+            preview.append('\n').append(result.getTaskNumber(i)).append(". ").append(result.getTask(i));
+        }
+        if (matchCount > shown) {
+            preview.append("\n...and ").append(matchCount - shown).append(" more. Press Enter for the full list.");
+        }
+        return preview.toString();
+    }
+
+    /**
+     * Shows the search preview at the bottom of the dialog, replacing the previous one.
+     *
+     * @param preview The preview text.
+     */
+    private void showSearchPreview(String preview) {
+        if (searchPreview != null) {
+            dialogContainer.getChildren().remove(searchPreview);
+        }
+        searchPreview = new DialogBox(preview, false);
+        dialogContainer.getChildren().add(searchPreview);
+        scrollPane.setVvalue(1.0);
+    }
+
+    /**
+     * Shows what changed after the tasks were changed from elsewhere, and refreshes the search
+     * preview if one is showing, since its matches may have changed.
+     *
+     * @param message The message listing the changes.
+     */
+    public void showExternalChanges(String message) {
+        boolean isPreviewing = searchPreview != null;
+        showMessage(message);
+        if (isPreviewing) {
+            startSearch(userInput.getText());
+        }
+    }
+
     /**
      * Shows a message in the dialog container.
      * Used for greeting and initial messages.
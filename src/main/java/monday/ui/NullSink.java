@@ -0,0 +1,26 @@
+package monday.ui;
+
+/**
+ * Output sink that discards everything written to it.
+ * Used by the GUI, where responses are shown in dialog boxes and nobody reads stdout.
+ */
+public class NullSink implements OutputSink {
+
+    /**
+     * Discards the given text.
+     *
+     * @param text The text to discard.
+     */
+    @Override
+    public void write(String text) {
+        // Intentionally empty
+    }
+
+    /**
+     * Does nothing, as nothing is ever buffered.
+     */
+    @Override
+    public void flush() {
+        // Intentionally empty
+    }
+}
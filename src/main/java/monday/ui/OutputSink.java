@@ -0,0 +1,20 @@
+package monday.ui;
+
+/**
+ * Represents a destination for MONDAY's rendered responses.
+ * Lets the same Ui drive a console, a batch log or nothing at all.
+ */
+public interface OutputSink {
+
+    /**
+     * Writes text to this sink. The text is written as-is, without a trailing newline.
+     *
+     * @param text The text to write.
+     */
+    void write(String text);
+
+    /**
+     * Flushes any buffered output to the underlying destination.
+     */
+    void flush();
+}
@@ -0,0 +1,121 @@
+package monday.ui;
+
+/**
+ * Represents which page of a task listing to show and how many tasks a page holds.
+ * Task numbers continue across pages: in a full list they are the numbers used with mark and
+ * delete, while in find and view results they count the matching tasks only.
+ */
+public class PageRequest {
+
+    /** Number of tasks shown per page when no page size is given */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    /** Largest page size a user may ask for */
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final int pageNumber;
+    private final int pageSize;
+
+    /**
+     * Creates a new page request.
+     *
+     * @param pageNumber The 1-indexed page number.
+     * @param pageSize The number of tasks per page.
+     */
+    public PageRequest(int pageNumber, int pageSize) {
+        assert pageNumber >= 1 : "Page number should start at 1";
+        assert pageSize >= 1 && pageSize <= MAX_PAGE_SIZE : "Page size should be within range";
+        this.pageNumber = pageNumber;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Returns a request for the first page with the default page size.
+     *
+     * @return The first page request.
+     */
+    public static PageRequest firstPage() {
+        return new PageRequest(1, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Returns the 1-indexed page number.
+     *
+     * @return The page number.
+     */
+    public int getPageNumber() {
+        return pageNumber;
+    }
+
+    /**
+     * Returns the number of tasks per page.
+     *
+     * @return The page size.
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Returns the 0-indexed position of the first task on this page.
+     *
+     * @return The start index (inclusive).
+     */
+    public int getStartIndex() {
+        return (pageNumber - 1) * pageSize;
+    }
+
+    /**
+     * Returns the 0-indexed position just past the last task on this page.
+     *
+     * @param totalCount The total number of tasks being paged.
+     * @return The end index (exclusive).
+     */
+    public int getEndIndex(int totalCount) {
+        return Math.min(totalCount, getStartIndex() + pageSize);
+    }
+
+    /**
+     * Returns the number of pages needed to show the given number of tasks.
+     *
+     * @param totalCount The total number of tasks being paged.
+     * @return The page count, at least 1.
+     */
+    public int getPageCount(int totalCount) {
+        return Math.max(1, (totalCount + pageSize - 1) / pageSize);
+    }
+
+    /**
+     * Checks if this page exists for the given number of tasks.
+     *
+     * @param totalCount The total number of tasks being paged.
+     * @return true if the page number is within the page count.
+     */
+    public boolean isWithin(int totalCount) {
+        return pageNumber <= getPageCount(totalCount);
+    }
+
+    /**
+     * Checks if there is a page after this one.
+     *
+     * @param totalCount The total number of tasks being paged.
+     * @return true if more tasks follow this page.
+     */
+    public boolean hasNextPage(int totalCount) {
+        return pageNumber < getPageCount(totalCount);
+    }
+
+    /**
+     * Returns the command options that request the page after this one.
+     * The page size is only included when it differs from the default.
+     *
+     * @return The options string, starting with a space.
+     */
+    public String getNextPageOptions() {
+        String options = " --page " + (pageNumber + 1);
+        if (pageSize != DEFAULT_PAGE_SIZE) {
+            options += " --page-size " + pageSize;
+        }
+        return options;
+    }
+}
@@ -0,0 +1,76 @@
+package monday.ui;
+
+import monday.task.Task;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Renders numbered task listings for every list view.
+ * Appends icons, status and description straight into the destination without building
+ * a string per task, and estimates output size so buffers can be allocated once.
+ */
+public final class TaskRenderer {
+
+    /** Characters per line besides the task itself: up to 7 digits, ". ", icons, space and newline */
+    private static final int LINE_OVERHEAD = 16;
+
+    private TaskRenderer() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Estimates how many characters rendering the given range of tasks will take.
+     *
+     * @param tasks The tasks being rendered.
+     * @param start The 0-indexed position of the first task (inclusive).
+     * @param end The 0-indexed position just past the last task (exclusive).
+     * @return The estimated number of characters.
+     */
+    public static int estimateCapacity(List<Task> tasks, int start, int end) {
+        int capacity = 0;
+        for (int i = start; i < end; i++) {
+            Task task = tasks.get(i);
+            capacity += LINE_OVERHEAD + task.getDescription().length() + task.getDetailsLengthHint();
+        }
+        return capacity;
+    }
+
+    /**
+     * Appends one numbered task line, e.g. "3. [T][ ] read book", without a trailing newline.
+     *
+     * @param out The destination to append to.
+     * @param number The 1-indexed task number to show.
+     * @param task The task to render.
+     * @throws IOException If the destination cannot be written to.
+     */
+    public static void appendNumberedTask(Appendable out, int number, Task task) throws IOException {
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(number);
+        } else {
+            out.append(Integer.toString(number));
+        }
+        out.append(". ");
+        task.appendTo(out);
+    }
+
+    /**
+     * Appends a range of tasks as newline-separated numbered lines.
+     * Numbers are the tasks' positions in the given list, so they continue across pages.
+     *
+     * @param out The destination to append to.
+     * @param tasks The tasks being rendered.
+     * @param start The 0-indexed position of the first task (inclusive).
+     * @param end The 0-indexed position just past the last task (exclusive).
+     * @throws IOException If the destination cannot be written to.
+     */
+    public static void appendNumberedTasks(Appendable out, List<Task> tasks, int start, int end)
+            throws IOException {
+        for (int i = start; i < end; i++) {
+            if (i > start) {
+                out.append('\n');
+            }
+            appendNumberedTask(out, i + 1, tasks.get(i));
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package monday.ui;
 
+import monday.command.CommandType;
+import monday.task.SearchResult;
 import monday.task.Task;
+import monday.task.TaskEdit;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -21,15 +26,34 @@ public class Ui {
             DateTimeFormatter.ofPattern("EEEE, d MMMM yyyy", Locale.ENGLISH);
     private static final DateTimeFormatter VIEW_OUTPUT_FORMATTER =
             DateTimeFormatter.ofPattern("MMM dd yyyy");
+    private static final DateTimeFormatter VIEW_INPUT_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int STREAM_CHUNK_LINES = 64;
+    private static final int PAGE_FOOTER_LENGTH = 96;
+    private static final int EXTERNAL_CHANGES_LIMIT = 20;
 
-    private final Scanner scanner;
+    private static final String NEWLINE = System.lineSeparator();
+
+    private Scanner scanner;
+    private final OutputSink sink;
     private String lastResponse;
+    private String nextPageCommand;
 
     /**
-     * Creates a new Ui instance and initializes the input scanner.
+     * Creates a new Ui instance that writes to the console.
      */
     public Ui() {
-        this.scanner = new Scanner(System.in);
+        this(new ConsoleSink());
+    }
+
+    /**
+     * Creates a new Ui instance that writes to the given sink.
+     * The input scanner is only created on the first readCommand, since server and GUI sessions never read stdin.
+     *
+     * @param sink The sink that receives rendered responses.
+     */
+    public Ui(OutputSink sink) {
+        this.sink = sink;
     }
 
     /**
@@ -40,11 +64,15 @@ public class Ui {
      */
     public void showResponse(String message) {
         lastResponse = message;
-        System.out.println(LINE);
-        System.out.println();  // blank line after opening LINE
-        System.out.println(message);
-        System.out.println(LINE);
-        System.out.println();  // blank line after closing LINE
+        nextPageCommand = null;
+        writeFramed(message);
+    }
+
+    /**
+     * Flushes any output buffered by the sink.
+     */
+    public void flush() {
+        sink.flush();
     }
 
     /**
@@ -56,6 +84,15 @@ public class Ui {
         return lastResponse;
     }
 
+    /**
+     * Gets the command that shows the page after the last displayed task page.
+     *
+     * @return The next page command, or null if the last response has no further pages.
+     */
+    public String getNextPageCommand() {
+        return nextPageCommand;
+    }
+
     /**
      * Gets the greeting message for GUI (without printing).
      *
@@ -82,70 +119,104 @@ public class Ui {
     }
 
     /**
-     * Displays the list of all tasks.
+     * Displays the first page of all tasks.
      *
      * @param tasks The list of tasks to display.
      */
     public void showTaskList(List<Task> tasks) {
+        showTaskList(tasks, PageRequest.firstPage());
+    }
+
+    /**
+     * Displays one page of all tasks.
+     *
+     * @param tasks The list of tasks to display.
+     * @param page The page to display.
+     */
+    public void showTaskList(List<Task> tasks, PageRequest page) {
         if (tasks.isEmpty()) {
             showResponse("Skeptical. You haven't told me to do anything yet.");
         } else {
-            StringBuilder sb = new StringBuilder();
-            for (int i = 0; i < tasks.size(); i++) {
-                if (i > 0) {
-                    sb.append("\n");
-                }
-                sb.append((i + 1)).append(". ").append(tasks.get(i));
-            }
-            showResponse(sb.toString());
+            showTaskPage("", tasks, page, CommandType.LIST.getCommand());
         }
     }
 
     /**
-     * Displays tasks filtered by a specific date.
+     * Displays the first page of tasks filtered by a specific date.
      *
      * @param tasks The list of filtered tasks to display.
      * @param date The date for which tasks are being displayed.
      */
     public void showFilteredTasks(List<Task> tasks, LocalDateTime date) {
+        showFilteredTasks(tasks, date, PageRequest.firstPage());
+    }
+
+    /**
+     * Displays one page of tasks filtered by a specific date.
+     *
+     * @param tasks The list of filtered tasks to display.
+     * @param date The date for which tasks are being displayed.
+     * @param page The page to display.
+     */
+    public void showFilteredTasks(List<Task> tasks, LocalDateTime date, PageRequest page) {
         if (tasks.isEmpty()) {
             showResponse("Skeptical. Nothing scheduled for "
                     + date.format(VIEW_OUTPUT_FORMATTER) + ".");
         } else {
-            StringBuilder sb = new StringBuilder();
-            sb.append("Ugh. Here's what you have on ")
-              .append(date.format(VIEW_OUTPUT_FORMATTER))
-              .append(":\n");
-            for (int i = 0; i < tasks.size(); i++) {
-                if (i > 0) {
-                    sb.append("\n");
-                }
-                sb.append((i + 1)).append(". ").append(tasks.get(i));
-            }
-            showResponse(sb.toString());
+            String header = "Ugh. Here's what you have on " + date.format(VIEW_OUTPUT_FORMATTER) + ":\n";
+            showTaskPage(header, tasks, page, CommandType.VIEW.getCommand() + " " + date.format(VIEW_INPUT_FORMATTER));
         }
     }
 
     /**
-     * Displays tasks that match a keyword search.
+     * Displays the first page of tasks that match a keyword search.
      *
      * @param tasks The list of matching tasks to display.
      * @param keyword The keyword that was searched for.
      */
     public void showMatchingTasks(List<Task> tasks, String keyword) {
+        showMatchingTasks(tasks, keyword, PageRequest.firstPage());
+    }
+
+    /**
+     * Displays one page of tasks that match a keyword search.
+     *
+     * @param tasks The list of matching tasks to display.
+     * @param keyword The keyword that was searched for.
+     * @param page The page to display.
+     */
+    public void showMatchingTasks(List<Task> tasks, String keyword, PageRequest page) {
         if (tasks.isEmpty()) {
             showResponse("Fine. No tasks match \"" + keyword + "\". Shocking, I know.");
         } else {
-            StringBuilder sb = new StringBuilder();
-            sb.append("Here are the matching tasks in your list:\n");
-            for (int i = 0; i < tasks.size(); i++) {
+            showTaskPage("Here are the matching tasks in your list:\n", tasks, page,
+                    CommandType.FIND.getCommand() + " " + keyword);
+        }
+    }
+
+    /**
+     * Displays the best matches of a ranked search, best first, with their task numbers.
+     *
+     * @param result The best matches.
+     * @param query The words that were searched for.
+     */
+    public void showBestMatches(SearchResult result, String query) {
+        if (result.getMatchCount() == 0) {
+            showResponse("Fine. Nothing even comes close to \"" + query + "\". Shocking, I know.");
+            return;
+        }
+        StringBuilder sb = new StringBuilder("Here are the best matches, best first:\n");
+        try {
+            for (int i = 0; i < result.getMatchCount(); i++) {
                 if (i > 0) {
-                    sb.append("\n");
+                    sb.append('\n');
                 }
-                sb.append((i + 1)).append(". ").append(tasks.get(i));
+                TaskRenderer.appendNumberedTask(sb, result.getTaskNumber(i), result.getTask(i));
             }
-            showResponse(sb.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder never throws
         }
+        showResponse(sb.toString());
     }
 
     /**
@@ -187,6 +258,74 @@ public class Ui {
         showResponse(message);
     }
 
+    /**
+     * Displays a confirmation message after undoing or redoing a change.
+     *
+     * @param edit The edit that was applied to undo or redo the change.
+     * @param isUndo true if the change was undone, false if it was redone.
+     * @param totalTasks The total number of tasks afterwards.
+     */
+    public void showUndoRedo(TaskEdit edit, boolean isUndo, int totalTasks) {
+        String message = (isUndo ? "Fine. Undone. " : "Ugh. Redone. ") + "I've " + edit.describe()
+                + " this task:\n" + "  " + edit.getTask() + "\n"
+                + "Now you have " + totalTasks + (totalTasks == 1 ? " task" : " tasks")
+                + " in the list.";
+        showResponse(message);
+    }
+
+    /**
+     * Gets the message telling the user their tasks were changed from elsewhere (without printing).
+     * Lists each changed task, up to a limit.
+     *
+     * @param edits The edits applied to catch up, or null if every task was loaded again.
+     * @return The formatted message.
+     */
+    public String getExternalChangesMessage(List<TaskEdit> edits) {
+        if (edits == null) {
+            return "Ugh. Someone rewrote your tasks behind my back, so I read them all again.";
+        }
+        StringBuilder sb = new StringBuilder("Ugh. Someone changed your tasks behind my back. Fine, I caught up:");
+        int shown = Math.min(edits.size(), EXTERNAL_CHANGES_LIMIT);
+        for (int i = 0; i < shown; i++) {
+            TaskEdit edit = edits.get(i);
+            String change = edit.getKind() == TaskEdit.Kind.ADD ? "added" : edit.describe();
+            sb.append("\n").append(edit.getTaskNumber()).append(". ").append(edit.getTask())
+                    .append(" (").append(change).append(")");
+        }
+        if (edits.size() > shown) {
+            sb.append("\n...and ").append(edits.size() - shown).append(" more changes.");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Displays the backups that can be restored, newest first.
+     *
+     * @param backupNames The names of the backups, newest first.
+     */
+    public void showBackups(List<String> backupNames) {
+        if (backupNames.isEmpty()) {
+            showResponse("No backups yet. I make them after I save, so give me something to save.");
+            return;
+        }
+        StringBuilder sb = new StringBuilder("Fine. Here are your backups, newest first:");
+        for (int i = 0; i < backupNames.size(); i++) {
+            sb.append("\n").append(i + 1).append(". ").append(backupNames.get(i));
+        }
+        sb.append("\nType 'restore <number>' to bring one back.");
+        showResponse(sb.toString());
+    }
+
+    /**
+     * Displays a confirmation message after restoring a backup.
+     *
+     * @param backupName The name of the restored backup.
+     */
+    public void showRestored(String backupName) {
+        showResponse("Fine. Your tasks are back to " + backupName + ".\n"
+                + "What you had a second ago is the newest backup, in case you change your mind. Again.");
+    }
+
     /**
      * Displays an error message.
      *
@@ -246,18 +385,36 @@ public class Ui {
                 + "  todo <description>           - Add a todo task\n"
                 + "  deadline <desc> /by <time>   - Add a deadline task\n"
                 + "  event <desc> /from <start> /to <end> - Add an event\n"
-                + "  list                         - Show all tasks\n"
+                + "  list [page]                  - Show all tasks, a page at a time\n"
                 + "  find <keyword>               - Find tasks by keyword\n"
+                + "  find <words> --best          - Show the best 20 matches, typos and all\n"
                 + "  view <date>                  - Show tasks for a specific date (yyyy-MM-dd)\n"
                 + "  mark <number>                - Mark task as done\n"
                 + "  unmark <number>              - Mark task as not done\n"
-                + "  delete <number>              - Delete a task (no going back)\n"
+                + "  delete <number>              - Delete a task (no going back, unless you undo)\n"
+                + "  undo / redo                  - Take back your last change, or the take-back\n"
                 + "  cheer                        - Get \"motivated\" (you'll need it)\n"
+                + "  stats                        - Show how long I take (faster than you, anyway)\n"
+                + "  restore [number]             - List backups, or bring one back over your tasks\n"
+                + "  ... --page <n> --page-size <n> - Page through list, find or view results\n"
                 + "  help                         - Show this help (you're welcome)\n"
                 + "  bye / exit                   - Get rid of me";
         showResponse(response);
     }
 
+    /**
+     * Displays the metrics report, with timings in microseconds.
+     *
+     * @param report The metrics report, one metric per line.
+     */
+    public void showStats(String report) {
+        if (report.isEmpty()) {
+            showResponse("Nothing to report. I haven't done anything yet, and neither have you.");
+            return;
+        }
+        showResponse("Fine, here's where the time went (timings in microseconds):\n" + report);
+    }
+
     /**
      * Displays a grumpy motivational quote.
      * The quote is expected to be wrapped in ANSI color codes.
@@ -265,11 +422,7 @@ public class Ui {
      * @param quote The motivational quote to display (may contain ANSI color codes).
      */
     public void showCheerMessage(String quote) {
-        System.out.println(LINE);
-        System.out.println();  // blank line after opening LINE
-        System.out.println(" " + quote);
-        System.out.println(LINE);
-        System.out.println();  // blank line after closing LINE
+        writeFramed(" " + quote);
     }
 
     /**
@@ -278,6 +431,9 @@ public class Ui {
      * @return The trimmed user input string.
      */
     public String readCommand() {
+        if (scanner == null) {
+            scanner = new Scanner(System.in);
+        }
         return scanner.nextLine().trim();
     }
 
@@ -285,7 +441,71 @@ public class Ui {
      * Closes the scanner used for reading input.
      */
     public void close() {
-        scanner.close();
+        if (scanner != null) {
+            scanner.close();
+        }
+    }
+
+    /**
+     * Displays one page of numbered tasks, streaming it to the sink in chunks of lines.
+     * Only the requested page is rendered, so the stored GUI response stays bounded.
+     *
+     * @param header The text shown before the tasks (empty or ending in a newline).
+     * @param tasks The tasks being paged through.
+     * @param page The page to display.
+     * @param command The command (with arguments) that produced this listing.
+     */
+    private void showTaskPage(String header, List<Task> tasks, PageRequest page, String command) {
+        int total = tasks.size();
+        int start = page.getStartIndex();
+        int end = page.getEndIndex(total);
+
+        StringBuilder sb = new StringBuilder(header.length() + TaskRenderer.estimateCapacity(tasks, start, end)
+                + command.length() + PAGE_FOOTER_LENGTH);
+        sb.append(header);
+        sink.write(LINE + NEWLINE + NEWLINE);
+        int written = 0;
+        try {
+            for (int chunkStart = start; chunkStart < end; chunkStart += STREAM_CHUNK_LINES) {
+                if (chunkStart > start) {
+                    sb.append('\n');
+                }
+                int chunkEnd = Math.min(end, chunkStart + STREAM_CHUNK_LINES);
+                TaskRenderer.appendNumberedTasks(sb, tasks, chunkStart, chunkEnd);
+                sink.write(sb.substring(written));
+                written = sb.length();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder never throws
+        }
+
+        boolean hasNextPage = page.hasNextPage(total);
+        if (page.getPageCount(total) > 1) {
+            sb.append("\nPage ").append(page.getPageNumber()).append(" of ").append(page.getPageCount(total))
+              .append(", tasks ").append(start + 1).append("-").append(end).append(" of ").append(total).append(".");
+            if (hasNextPage) {
+                sb.append(" Type '").append(command).append(page.getNextPageOptions()).append("' for more.");
+            }
+        }
+        sink.write(sb.substring(written) + NEWLINE + LINE + NEWLINE + NEWLINE);
+
+        lastResponse = sb.toString();
+        nextPageCommand = hasNextPage ? command + page.getNextPageOptions() : null;
+    }
+
+    /**
+     * Writes a message wrapped with line separators and blank lines to the sink in a single write.
+     *
+     * @param message The message to write.
+     */
+    private void writeFramed(String message) {
+        StringBuilder sb = new StringBuilder(message.length() + 2 * LINE.length() + 6 * NEWLINE.length());
+        sb.append(LINE).append(NEWLINE)
+          .append(NEWLINE)  // blank line after opening LINE
+          .append(message).append(NEWLINE)
+          .append(LINE).append(NEWLINE)
+          .append(NEWLINE);  // blank line after closing LINE
+        sink.write(sb.toString());
     }
 
     /**
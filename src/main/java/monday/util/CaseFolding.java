@@ -0,0 +1,85 @@
+package monday.util;
+
+import java.util.Locale;
+
+/**
+ * Locale-independent case folding for case-insensitive matching.
+ * Each character is folded through upper case and back, so characters with several lower-case forms
+ * fold alike, and so do characters whose upper case is longer (such as the German sharp s).
+ * The final sigma folds to the ordinary sigma, so a word matches wherever it ends.
+ * The default locale is never used, so Turkish settings cannot turn "I" into a dotless "ı".
+ */
+public final class CaseFolding {
+
+    private static final char SIGMA = 'σ';
+    private static final char FINAL_SIGMA = 'ς';
+
+    private CaseFolding() {
+        // Utility class
+    }
+
+    /**
+     * Folds a string for case-insensitive comparison with other folded strings.
+     * Strings that are already folded are returned as they are, without allocating, unless they hold
+     * a letter whose upper case is longer, which is checked by folding.
+     *
+     * @param text The text to fold.
+     * @return The folded text.
+     */
+    public static String fold(String text) {
+        boolean isAscii = true;
+        boolean hasUpperCase = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                isAscii = false;
+                break;
+            }
+            if (c >= 'A' && c <= 'Z') {
+                hasUpperCase = true;
+            }
+        }
+        if (isAscii) {
+            return hasUpperCase ? text.toLowerCase(Locale.ROOT) : text;
+        }
+        if (isFolded(text)) {
+            return text;
+        }
+        StringBuilder folded = new StringBuilder(text.length());
+        text.codePoints().forEach(codePoint -> appendFolded(folded, codePoint));
+        return folded.toString().equals(text) ? text : folded.toString();
+    }
+
+    /**
+     * Checks code point by code point, without allocating, whether every character folds to itself.
+     * Characters that may have a longer upper case count as not folded, leaving them to appendFolded.
+     */
+    private static boolean isFolded(String text) {
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            int lower = Character.toLowerCase(Character.toUpperCase(codePoint));
+            if (lower != codePoint || lower == FINAL_SIGMA
+                    || (Character.isLowerCase(lower) && Character.toUpperCase(lower) == lower)) {
+                return false;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return true;
+    }
+
+    /**
+     * Folds one code point without looking at its neighbours, since lower-casing a whole string
+     * would turn a sigma at the end of a word into the final sigma again.
+     */
+    private static void appendFolded(StringBuilder folded, int codePoint) {
+        int lower = Character.toLowerCase(Character.toUpperCase(codePoint));
+        if (lower == FINAL_SIGMA) {
+            folded.append(SIGMA);
+        } else if (Character.isLowerCase(lower) && Character.toUpperCase(lower) == lower) {
+            // No single-character upper case, but maybe a longer one: "ß" is "SS"
+            folded.append(Character.toString(lower).toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT));
+        } else {
+            folded.appendCodePoint(lower);
+        }
+    }
+}
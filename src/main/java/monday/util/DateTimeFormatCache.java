@@ -0,0 +1,99 @@
+package monday.util;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of formatted date/time strings keyed by minute.
+ * Task lists tend to reuse a few timestamps (e.g. 2359 deadlines on the same days), so rendering
+ * them through a shared cache avoids running the formatter again for the same instant.
+ * The cache is direct-mapped: each minute has one slot, and a colliding minute simply replaces it.
+ */
+public class DateTimeFormatCache {
+
+    /** Shared cache for display strings in OUTPUT_FORMATTER format */
+    public static final DateTimeFormatCache DISPLAY =
+            new DateTimeFormatCache(DateTimeParser.OUTPUT_FORMATTER, 1024);
+
+    /** Shared cache for storage strings in STORAGE_FORMATTER format */
+    public static final DateTimeFormatCache STORAGE =
+            new DateTimeFormatCache(DateTimeParser.STORAGE_FORMATTER, 1024);
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final DateTimeFormatter formatter;
+    private final Entry[] entries;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * Creates a new cache for the given formatter.
+     *
+     * @param formatter The formatter used on a cache miss.
+     * @param capacity The number of slots, rounded up to a power of two.
+     */
+    public DateTimeFormatCache(DateTimeFormatter formatter, int capacity) {
+        assert capacity > 0 : "Cache capacity should be positive";
+        this.formatter = formatter;
+        this.entries = new Entry[Integer.highestOneBit(Math.max(1, capacity - 1)) << 1];
+    }
+
+    /**
+     * Formats a date/time, reusing the cached string if the same minute was formatted before.
+     * Values with seconds or nanoseconds are formatted directly and not cached.
+     *
+     * @param dateTime The date/time to format.
+     * @return The formatted string.
+     */
+    public String format(LocalDateTime dateTime) {
+        if (dateTime.getSecond() != 0 || dateTime.getNano() != 0) {
+            return dateTime.format(formatter);
+        }
+
+        long minute = dateTime.toLocalDate().toEpochDay() * MINUTES_PER_DAY
+                + dateTime.getHour() * 60L + dateTime.getMinute();
+        int slot = (int) (minute ^ (minute >>> 32)) & (entries.length - 1);
+        Entry entry = entries[slot];
+        if (entry != null && entry.minute == minute) {
+            hitCount.increment();
+            return entry.text;
+        }
+
+        missCount.increment();
+        String text = dateTime.format(formatter);
+        entries[slot] = new Entry(minute, text);
+        return text;
+    }
+
+    /**
+     * Returns how many lookups were served from the cache.
+     *
+     * @return The hit count.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns how many lookups had to run the formatter.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Immutable cache slot, so readers on other threads always see a matching minute and text.
+     */
+    private static final class Entry {
+        private final long minute;
+        private final String text;
+
+        private Entry(long minute, String text) {
+            this.minute = minute;
+            this.text = text;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package monday.util;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
@@ -18,6 +21,10 @@ public class DateTimeParser {
     public static final DateTimeFormatter INPUT_FORMATTER_2 =
             DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
 
+    /** Most digits a day or month may have in d/M/yyyy, as for a single-letter field in a pattern */
+    private static final int MAX_FIELD_DIGITS = 19;
+    private static final int DIGITS_LIMIT = 100_000_000;
+
     /** Output format: month day year hour-minute (e.g., Dec 02 2019 1800) */
     public static final DateTimeFormatter OUTPUT_FORMATTER =
             DateTimeFormatter.ofPattern("MMM dd yyyy HHmm");
@@ -28,25 +35,170 @@ public class DateTimeParser {
 
     /**
      * Parses a date/time string into a LocalDateTime.
-     * Tries multiple formats: yyyy-MM-dd HHmm, then d/M/yyyy HHmm.
+     * Accepts the formats yyyy-MM-dd HHmm and d/M/yyyy HHmm.
      *
      * @param dateTimeString The date/time string to parse.
      * @return The parsed LocalDateTime.
      * @throws DateTimeParseException If the string cannot be parsed with any format.
      */
     public static LocalDateTime parseDateTime(String dateTimeString) throws DateTimeParseException {
-        try {
-            return LocalDateTime.parse(dateTimeString, INPUT_FORMATTER_1);
-        } catch (DateTimeParseException e) {
-            try {
-                return LocalDateTime.parse(dateTimeString, INPUT_FORMATTER_2);
-            } catch (DateTimeParseException e2) {
-                throw new DateTimeParseException(
-                        "Ugh, I can't understand that date. Try 'yyyy-MM-dd HHmm' or 'd/M/yyyy HHmm'.",
-                        dateTimeString,
-                        0);
+        LocalDateTime result = tryParseDateTime(dateTimeString);
+        if (result == null) {
+            throw new DateTimeParseException(
+                    "Ugh, I can't understand that date. Try 'yyyy-MM-dd HHmm' or 'd/M/yyyy HHmm'.",
+                    dateTimeString,
+                    0);
+        }
+        return result;
+    }
+
+    /**
+     * Parses a date string into a LocalDate.
+     * Accepts the formats yyyy-MM-dd and d/M/yyyy.
+     *
+     * @param dateString The date string to parse.
+     * @return The parsed LocalDate.
+     * @throws DateTimeParseException If the string cannot be parsed with any format.
+     */
+    public static LocalDate parseDate(String dateString) throws DateTimeParseException {
+        LocalDate result = tryParseDate(dateString, 0, dateString.length());
+        if (result == null) {
+            throw new DateTimeParseException(
+                    "Ugh, I can't understand that date. Try 'yyyy-MM-dd' or 'd/M/yyyy' format.",
+                    dateString,
+                    0);
+        }
+        return result;
+    }
+
+    /**
+     * Parses a date/time string without throwing on bad input.
+     * Picks the format from the string's shape (dash or slash separated date, then a space
+     * and four time digits) and reads the digits directly instead of trying each formatter.
+     * Resolves like the input formatters: days past the end of a month are clamped to its
+     * last day, and 2400 means midnight at the start of the next day.
+     *
+     * @param dateTimeString The date/time string to parse.
+     * @return The parsed LocalDateTime, or null if the string is not a valid date/time.
+     */
+    public static LocalDateTime tryParseDateTime(String dateTimeString) {
+        int space = dateTimeString.indexOf(' ');
+        if (space < 0 || dateTimeString.length() != space + 5) {
+            return null;
+        }
+
+        LocalDate date = tryParseDate(dateTimeString, 0, space);
+        int hour = parseDigits(dateTimeString, space + 1, space + 3);
+        int minute = parseDigits(dateTimeString, space + 3, space + 5);
+        return toDateTime(date, hour, minute);
+    }
+
+    /**
+     * Parses a date/time string in the storage format yyyy-MM-dd HH:mm.
+     * Canonical 16 character values are read digit by digit at fixed positions; anything else
+     * (such as hand-edited legacy lines) falls back to STORAGE_FORMATTER.
+     *
+     * @param dateTimeString The stored date/time string.
+     * @return The parsed LocalDateTime.
+     * @throws DateTimeParseException If the string is not a valid storage date/time.
+     */
+    public static LocalDateTime parseStorageDateTime(String dateTimeString) throws DateTimeParseException {
+        LocalDateTime result = null;
+        if (dateTimeString.length() == 16 && dateTimeString.charAt(4) == '-' && dateTimeString.charAt(7) == '-'
+                && dateTimeString.charAt(10) == ' ' && dateTimeString.charAt(13) == ':') {
+            LocalDate date = tryParseDate(dateTimeString, 0, 10);
+            int hour = parseDigits(dateTimeString, 11, 13);
+            int minute = parseDigits(dateTimeString, 14, 16);
+            result = toDateTime(date, hour, minute);
+        }
+        return result != null ? result : LocalDateTime.parse(dateTimeString, STORAGE_FORMATTER);
+    }
+
+    /**
+     * Parses the date part of a string without throwing on bad input.
+     * A 10 character yyyy-MM-dd date is read at fixed positions; otherwise d/M/yyyy is assumed,
+     * where, as with INPUT_FORMATTER_2, the day and month may have any number of digits up to
+     * 19 (so "002/012/2019" is 2 December) and the year has exactly four.
+     *
+     * @param text The text containing the date.
+     * @param start The index of the first character of the date (inclusive).
+     * @param end The index just past the last character of the date (exclusive).
+     * @return The parsed LocalDate, or null if the text is not a valid date.
+     */
+    private static LocalDate tryParseDate(String text, int start, int end) {
+        if (end - start == 10 && text.charAt(start + 4) == '-' && text.charAt(start + 7) == '-') {
+            return toDate(parseDigits(text, start, start + 4),
+                    parseDigits(text, start + 5, start + 7),
+                    parseDigits(text, start + 8, start + 10));
+        }
+
+        int firstSlash = text.indexOf('/', start);
+        int secondSlash = firstSlash < 0 ? -1 : text.indexOf('/', firstSlash + 1);
+        if (secondSlash < 0 || secondSlash >= end || firstSlash - start > MAX_FIELD_DIGITS
+                || secondSlash - firstSlash - 1 > MAX_FIELD_DIGITS || end - secondSlash != 5) {
+            return null;
+        }
+        return toDate(parseDigits(text, secondSlash + 1, end),
+                parseDigits(text, firstSlash + 1, secondSlash),
+                parseDigits(text, start, firstSlash));
+    }
+
+    /**
+     * Combines a date with a time of day, treating 2400 as midnight at the start of the next day.
+     *
+     * @param date The date, or null if it could not be parsed.
+     * @param hour The hour, or -1 if it was not a number.
+     * @param minute The minute, or -1 if it was not a number.
+     * @return The date/time, or null if any part is missing or out of range.
+     */
+    private static LocalDateTime toDateTime(LocalDate date, int hour, int minute) {
+        if (date == null || hour < 0 || minute < 0 || minute > 59) {
+            return null;
+        }
+        if (hour == 24 && minute == 0) {
+            return date.plusDays(1).atStartOfDay();
+        }
+        return hour <= 23 ? date.atTime(hour, minute) : null;
+    }
+
+    /**
+     * Builds a date from its fields, clamping day 29 to 31 to the length of the month.
+     *
+     * @param year The year, or -1 if it was not a number.
+     * @param month The month, or -1 if it was not a number.
+     * @param day The day of the month, or -1 if it was not a number.
+     * @return The date, or null if a field is out of range.
+     */
+    private static LocalDate toDate(int year, int month, int day) {
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > 31) {
+            return null;
+        }
+        int monthLength = Month.of(month).length(Year.isLeap(year));
+        return LocalDate.of(year, month, Math.min(day, monthLength));
+    }
+
+    /**
+     * Reads a run of ASCII digits as a non-negative number.
+     * Numbers past DIGITS_LIMIT read as DIGITS_LIMIT, which no date field accepts, so long runs cannot overflow.
+     *
+     * @param text The text to read from.
+     * @param start The index of the first digit (inclusive).
+     * @param end The index just past the last digit (exclusive).
+     * @return The number, or -1 if the run is empty or contains a non-digit.
+     */
+    static int parseDigits(CharSequence text, int start, int end) {
+        if (start >= end) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
             }
+            value = Math.min(value * 10 + (c - '0'), DIGITS_LIMIT);
         }
+        return value;
     }
 
     private DateTimeParser() {
@@ -0,0 +1,116 @@
+package monday.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies in nanoseconds, for reporting percentiles under load.
+ * Values below 32 get a bucket each; larger values share 16 buckets per power of two,
+ * so any reported percentile is within about 6% of the true value.
+ * Recording is a couple of atomic increments, so many threads can record at once.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKET_COUNT;
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+    private static final double NANOS_PER_MICRO = 1000.0;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAccumulator maxValue = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records one latency.
+     * Negative values are recorded as zero.
+     *
+     * @param nanos The latency in nanoseconds.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketOf(value));
+        totalCount.increment();
+        maxValue.accumulate(value);
+    }
+
+    /**
+     * Gets the number of recorded latencies.
+     *
+     * @return The number of recorded latencies.
+     */
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Gets the largest recorded latency.
+     *
+     * @return The largest latency in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    /**
+     * Gets the latency that the given percentage of recordings did not exceed.
+     * The result is the upper bound of the matching bucket, capped at the recorded maximum.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return The latency in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        assert percentile >= 0 && percentile <= 100 : "Percentile should be between 0 and 100";
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += counts.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Summarises the recorded latencies in microseconds.
+     *
+     * @return A one-line summary with the count, common percentiles and the maximum.
+     */
+    public String getSummary() {
+        return String.format("count=%d p50=%.1fus p90=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus",
+                getCount(),
+                getValueAtPercentile(50) / NANOS_PER_MICRO,
+                getValueAtPercentile(90) / NANOS_PER_MICRO,
+                getValueAtPercentile(99) / NANOS_PER_MICRO,
+                getValueAtPercentile(99.9) / NANOS_PER_MICRO,
+                getMax() / NANOS_PER_MICRO);
+    }
+
+    static int bucketOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS));
+        return (exponent - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long upperBoundOf(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        long subBucket = bucket % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,107 @@
+package monday.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registry of named counters and latency timers.
+ * Callers look a metric up once (typically into a static field) and then record into it directly;
+ * recording is a LongAdder or LatencyHistogram update, with no locking or allocation,
+ * so metrics can stay on all the time.
+ */
+public class Metrics {
+
+    /** Registry shared by the whole application */
+    public static final Metrics GLOBAL = new Metrics();
+
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> timers = new ConcurrentHashMap<>();
+    private ScheduledExecutorService dumpExecutor;
+
+    /**
+     * Gets the counter with the given name, creating it on first use.
+     *
+     * @param name The counter name, e.g. "storage.load.lines".
+     * @return The counter.
+     */
+    public LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    /**
+     * Gets the latency timer with the given name, creating it on first use.
+     *
+     * @param name The timer name, e.g. "command.parse".
+     * @return The timer's histogram of nanosecond latencies.
+     */
+    public LatencyHistogram timer(String name) {
+        return timers.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    /**
+     * Summarises every metric, one per line, sorted by name.
+     * Timers show their count, percentiles and maximum in microseconds.
+     *
+     * @return The report.
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder();
+        for (Map.Entry<String, LatencyHistogram> timer : new TreeMap<>(timers).entrySet()) {
+            report.append(timer.getKey()).append(": ").append(timer.getValue().getSummary()).append('\n');
+        }
+        for (Map.Entry<String, LongAdder> counter : new TreeMap<>(counters).entrySet()) {
+            report.append(counter.getKey()).append(": ").append(counter.getValue().sum()).append('\n');
+        }
+        return report.length() == 0 ? "" : report.substring(0, report.length() - 1);
+    }
+
+    /**
+     * Writes the report to a file every interval, on a background daemon thread.
+     * The file is replaced in one step, so readers never see a half-written report.
+     *
+     * @param file The file to write.
+     * @param intervalSeconds The number of seconds between writes.
+     */
+    public synchronized void startPeriodicDump(Path file, long intervalSeconds) {
+        assert intervalSeconds > 0 : "Dump interval should be positive";
+        if (dumpExecutor != null) {
+            dumpExecutor.shutdownNow();
+        }
+        dumpExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "monday-metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumpExecutor.scheduleAtFixedRate(() -> dumpTo(file), intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Writes the report to a file now.
+     * Failures are reported to stderr, since metrics should never break the application.
+     *
+     * @param file The file to write.
+     */
+    public void dumpTo(Path file) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = parent.resolve(file.getFileName() + ".tmp");
+            String content = "# " + LocalDateTime.now() + System.lineSeparator() + getReport() + System.lineSeparator();
+            Files.writeString(temp, content, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Warning: Couldn't write metrics. " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package monday;
+
+import monday.parser.Parser;
+import monday.storage.FileStorage;
+import monday.task.LoadResult;
+import monday.task.TaskEdit;
+import monday.ui.NullSink;
+import monday.ui.Ui;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for Session.
+ * Runs commands against storage in a temp directory.
+ */
+public class SessionTest {
+
+    private static final String TEST_FILE = "monday.txt";
+
+    private Path testDataDir;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        testDataDir = Files.createTempDirectory("monday_session");
+        Files.writeString(testDataDir.resolve(TEST_FILE), "T | 0 | Read book\nT | 1 | Return book\n");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(testDataDir)) {
+            paths.sorted((a, b) -> b.compareTo(a))
+                    .forEach(path -> {
+                        try {
+                            Files.deleteIfExists(path);
+                        } catch (IOException e) {
+                            // Ignore cleanup errors
+                        }
+                    });
+        }
+    }
+
+    private Session newSession() {
+        return new Session(new Ui(new NullSink()), new FileStorage(testDataDir.toString(), TEST_FILE), new Parser());
+    }
+
+    @Test
+    public void testLoadTasks_commandsSeeLoadedTasks() {
+        Session session = newSession();
+        assertFalse(session.loadTasks());
+
+        String response = session.getResponse("list");
+        assertTrue(response.contains("Read book"));
+        assertTrue(response.contains("Return book"));
+    }
+
+    @Test
+    public void testLoadTasksInBackground_firstCommandWaitsForLoad() {
+        Session session = newSession();
+        session.loadTasksInBackground();
+
+        String response = session.getResponse("list");
+        assertTrue(response.contains("Read book"));
+        assertTrue(response.contains("Return book"));
+    }
+
+    @Test
+    public void testLoadTasksInBackground_completesWithLoadResult() {
+        Session session = newSession();
+        LoadResult result = session.loadTasksInBackground().join();
+
+        assertEquals(2, result.getTasks().size());
+        assertFalse(session.hasCorruption());
+    }
+
+    @Test
+    public void testGetResponse_changesArePersisted() {
+        Session session = newSession();
+        session.loadTasksInBackground();
+        session.getResponse("todo write report");
+        session.close();
+
+        Session reloaded = newSession();
+        reloaded.loadTasks();
+        assertTrue(reloaded.getResponse("list").contains("write report"));
+    }
+
+    @Test
+    public void testBye_requestsExit() {
+        Session session = newSession();
+        session.loadTasks();
+
+        session.getResponse("bye");
+        assertTrue(session.isExitRequested());
+        session.getResponse("list");
+        assertFalse(session.isExitRequested());
+    }
+
+    @Test
+    public void testGetResponse_secondSessionReadOnlyButFollowsFirst() {
+        Session writer = newSession();
+        writer.loadTasks();
+        Session reader = newSession();
+        reader.loadTasks();
+
+        assertTrue(reader.getResponse("todo write report").contains("read-only"));
+        writer.getResponse("todo write report");
+        assertTrue(reader.getResponse("list").contains("write report"));
+
+        writer.close();
+        assertTrue(reader.getResponse("delete 1").contains("Read book"));
+        reader.close();
+    }
+
+    @Test
+    public void testSyncExternalChanges_appliesHandEdit() throws IOException {
+        Session session = newSession();
+        session.loadTasks();
+
+        Files.writeString(testDataDir.resolve(TEST_FILE), "T | 0 | Read book\nT | 1 | Return book\nT | 0 | Buy milk\n");
+        List<TaskEdit> edits = session.syncExternalChanges();
+
+        assertEquals(1, edits.size());
+        assertEquals(3, edits.get(0).getTaskNumber());
+        assertTrue(session.getResponse("list").contains("Buy milk"));
+        session.close();
+    }
+
+    @Test
+    public void testGetResponse_handEditMergedWithUnsavedChanges() throws IOException {
+        Session session = newSession();
+        session.loadTasks();
+        session.getResponse("todo write report");
+
+        Files.writeString(testDataDir.resolve(TEST_FILE), "T | 0 | Buy milk\nT | 0 | Read book\nT | 1 | Return book\n");
+        String response = session.getResponse("list");
+
+        assertTrue(response.contains("1. [T][ ] Buy milk"));
+        assertTrue(response.contains("write report"));
+        assertTrue(session.getResponse("undo").startsWith("Warning"));
+        session.close();
+    }
+
+    @Test
+    public void testGetResponse_restoreBringsBackBackup() {
+        FileStorage storage = new FileStorage(testDataDir.toString(), TEST_FILE);
+        storage.startBackups(3600);
+        Session session = new Session(new Ui(new NullSink()), storage, new Parser());
+        session.loadTasks();
+        assertTrue(session.getResponse("restore").contains("No backups"));
+        session.getResponse("delete 1");
+        session.close(); // Saves, and waits for the backup after the save
+
+        session = newSession();
+        session.loadTasks();
+        session.getResponse("todo write report");
+        assertTrue(session.getResponse("restore 1").contains("back to"));
+
+        String response = session.getResponse("list");
+        assertFalse(response.contains("write report"));
+        assertTrue(response.contains("Return book"));
+        assertTrue(session.getResponse("restore").contains("2. " + TEST_FILE + "."));
+        assertTrue(session.getResponse("restore 3").startsWith("Warning"));
+        session.close();
+    }
+
+    @Test
+    public void testGetResponse_restoreWhileReadOnly_rejected() {
+        Session writer = newSession();
+        writer.loadTasks();
+        writer.getResponse("todo write report");
+        Session reader = newSession();
+        reader.loadTasks();
+
+        assertTrue(reader.getResponse("restore 1").contains("read-only"));
+        assertTrue(writer.getResponse("list").contains("write report"));
+
+        reader.close();
+        writer.close();
+    }
+}
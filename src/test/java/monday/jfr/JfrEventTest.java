@@ -0,0 +1,111 @@
+package monday.jfr;
+
+import monday.Session;
+import monday.parser.Parser;
+import monday.storage.FileStorage;
+import monday.storage.Storage;
+import monday.ui.NullSink;
+import monday.ui.Ui;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the MONDAY JFR events.
+ * Records a short session and checks the events it produced.
+ */
+public class JfrEventTest {
+
+    private Path testDataDir;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        testDataDir = Files.createTempDirectory("monday_jfr");
+        Files.writeString(testDataDir.resolve("monday.txt"), "T | 0 | Read book\nnot a task\n");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(testDataDir)) {
+            paths.sorted((a, b) -> b.compareTo(a))
+                    .forEach(path -> {
+                        try {
+                            Files.deleteIfExists(path);
+                        } catch (IOException e) {
+                            // Ignore cleanup errors
+                        }
+                    });
+        }
+    }
+
+    private List<RecordedEvent> record(Runnable action) throws IOException {
+        Path recordingFile = testDataDir.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("monday.CommandParse").withThreshold(Duration.ZERO);
+            recording.enable("monday.CommandExecute").withThreshold(Duration.ZERO);
+            recording.enable("monday.StorageLoad").withThreshold(Duration.ZERO);
+            recording.enable("monday.StorageSave").withThreshold(Duration.ZERO);
+            recording.enable("monday.CorruptedLineBackup");
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        return RecordingFile.readAllEvents(recordingFile);
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+    }
+
+    @Test
+    public void testSession_emitsCommandAndStorageEvents() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            Storage storage = new FileStorage(testDataDir.toString(), "monday.txt");
+            Session session = new Session(new Ui(new NullSink()), storage, new Parser());
+            session.loadTasks();
+            session.getResponse("todo write report");
+            session.getResponse("mark 5");
+            session.close();
+        });
+
+        List<RecordedEvent> loads = ofType(events, "monday.StorageLoad");
+        assertEquals(1, loads.size());
+        assertEquals(1, loads.get(0).getInt("taskCount"));
+        assertEquals(1, loads.get(0).getInt("corruptedLineCount"));
+        assertTrue(loads.get(0).getLong("bytes") > 0);
+
+        assertEquals(1, ofType(events, "monday.CorruptedLineBackup").size());
+
+        List<RecordedEvent> parses = ofType(events, "monday.CommandParse");
+        assertEquals(2, parses.size());
+        assertEquals("TODO", parses.get(0).getString("commandType"));
+
+        List<RecordedEvent> executions = ofType(events, "monday.CommandExecute");
+        assertEquals(2, executions.size());
+        assertEquals("TODO", executions.get(0).getString("commandType"));
+        assertTrue(executions.get(0).getBoolean("isSuccessful"));
+        assertEquals("MARK", executions.get(1).getString("commandType"));
+        assertFalse(executions.get(1).getBoolean("isSuccessful"));
+
+        List<RecordedEvent> saves = ofType(events, "monday.StorageSave");
+        assertEquals(1, saves.size());
+        assertEquals(2, saves.get(0).getInt("taskCount"));
+    }
+}
@@ -10,6 +10,8 @@ import monday.command.FindCommand;
 import monday.command.HelpCommand;
 import monday.command.ListCommand;
 import monday.command.MarkCommand;
+import monday.command.RestoreCommand;
+import monday.command.StatsCommand;
 import monday.command.ViewCommand;
 import monday.exception.ParseException;
 
@@ -65,6 +67,20 @@ public class ParserTest {
         assertTrue(command instanceof ExitCommand);
     }
 
+    @Test
+    public void testParseCommand_stats() throws ParseException {
+        Command command = parser.parseCommand("stats");
+        assertTrue(command instanceof StatsCommand);
+    }
+
+    @Test
+    public void testParseCommand_restore() throws ParseException {
+        assertTrue(parser.parseCommand("restore") instanceof RestoreCommand);
+        assertTrue(parser.parseCommand("restore 2") instanceof RestoreCommand);
+        assertThrows(ParseException.class, () -> parser.parseCommand("restore 0"));
+        assertThrows(ParseException.class, () -> parser.parseCommand("restore latest"));
+    }
+
     @Test
     public void testParseCommand_list() throws ParseException {
         Command command = parser.parseCommand("list");
@@ -356,6 +372,28 @@ public class ParserTest {
         assertTrue(exception.getMessage().contains("find what"));
     }
 
+    @Test
+    public void testParseCommand_findBest_validKeyword() throws ParseException {
+        Command command = parser.parseCommand("find bok --best");
+        assertTrue(command instanceof FindCommand);
+    }
+
+    @Test
+    public void testParseCommand_findBest_emptyKeyword() {
+        ParseException exception = assertThrows(ParseException.class, () -> {
+            parser.parseCommand("find --best");
+        });
+        assertTrue(exception.getMessage().contains("find what"));
+    }
+
+    @Test
+    public void testParseCommand_findBest_withPage() {
+        ParseException exception = assertThrows(ParseException.class, () -> {
+            parser.parseCommand("find book --best --page 2");
+        });
+        assertTrue(exception.getMessage().contains("no pages"));
+    }
+
     @Test
     public void testParseCommand_find_caseInsensitivity() throws ParseException {
         Command command1 = parser.parseCommand("find BOOK");
@@ -365,4 +403,37 @@ public class ParserTest {
         assertTrue(command2 instanceof FindCommand);
         assertTrue(command3 instanceof FindCommand);
     }
+
+    // Tests for paged list, find and view
+
+    @Test
+    public void testParseCommand_list_pageNumber() throws ParseException {
+        assertTrue(parser.parseCommand("list 3") instanceof ListCommand);
+        assertTrue(parser.parseCommand("list --page-size 50") instanceof ListCommand);
+        assertTrue(parser.parseCommand("list --page 2 --page-size 50") instanceof ListCommand);
+    }
+
+    @Test
+    public void testParseCommand_list_invalidPage() {
+        assertThrows(ParseException.class, () -> parser.parseCommand("list abc"));
+        assertThrows(ParseException.class, () -> parser.parseCommand("list 0"));
+        assertThrows(ParseException.class, () -> parser.parseCommand("list --page-size 0"));
+        assertThrows(ParseException.class, () -> parser.parseCommand("list --page-size 100000"));
+    }
+
+    @Test
+    public void testParseCommand_findAndView_withPageOptions() throws ParseException {
+        assertTrue(parser.parseCommand("find book --page 2") instanceof FindCommand);
+        assertTrue(parser.parseCommand("view 2019-12-25 --page 2 --page-size 10") instanceof ViewCommand);
+        ParseException exception = assertThrows(ParseException.class, () -> {
+            parser.parseCommand("find --page 2");
+        });
+        assertTrue(exception.getMessage().contains("find what"));
+    }
+
+    @Test
+    public void testParseCommand_duplicatePageOptions_rejected() {
+        assertThrows(ParseException.class, () -> parser.parseCommand("list --page 2 --page 3"));
+        assertThrows(ParseException.class, () -> parser.parseCommand("find book --page-size 5 --page 2 --page-size 9"));
+    }
 }
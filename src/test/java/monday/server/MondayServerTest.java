@@ -0,0 +1,174 @@
+package monday.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for MondayServer.
+ * Talks to a server on a free localhost port backed by a temp directory.
+ */
+public class MondayServerTest {
+
+    private Path dataRoot;
+    private MondayServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        dataRoot = Files.createTempDirectory("monday_server");
+        server = new MondayServer(dataRoot, 0);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        server.close();
+        Files.walk(dataRoot)
+                .sorted((a, b) -> b.compareTo(a))
+                .forEach(path -> {
+                    try {
+                        Files.deleteIfExists(path);
+                    } catch (IOException e) {
+                        // Ignore cleanup errors
+                    }
+                });
+    }
+
+    @Test
+    public void testUsers_haveSeparateTaskLists() throws IOException {
+        try (Client alice = new Client("alice"); Client bob = new Client("bob")) {
+            alice.send("todo read book");
+            bob.send("todo walk dog");
+
+            String aliceList = alice.send("list");
+            String bobList = bob.send("list");
+            assertTrue(aliceList.contains("read book"));
+            assertFalse(aliceList.contains("walk dog"));
+            assertTrue(bobList.contains("walk dog"));
+            assertFalse(bobList.contains("read book"));
+        }
+    }
+
+    @Test
+    public void testSameUser_sharesSessionAcrossConnections() throws IOException {
+        try (Client first = new Client("alice"); Client second = new Client("alice")) {
+            first.send("todo read book");
+            assertTrue(second.send("list").contains("read book"));
+            assertEquals(1, server.getActiveUserCount());
+        }
+    }
+
+    @Test
+    public void testLastConnectionClosed_savesTasks() throws IOException, InterruptedException {
+        try (Client alice = new Client("alice")) {
+            alice.send("todo read book");
+        }
+        Path file = dataRoot.resolve("users").resolve("alice").resolve("monday.txt");
+        for (int i = 0; i < 100 && server.getActiveUserCount() > 0; i++) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(0, server.getActiveUserCount());
+        assertTrue(Files.readString(file).contains("read book"));
+    }
+
+    @Test
+    public void testReconnectWhileSaving_seesSavedTasks() throws IOException {
+        for (int i = 0; i < 20; i++) {
+            try (Client alice = new Client("alice")) {
+                alice.send("todo task " + i);
+            }
+        }
+        try (Client alice = new Client("alice")) {
+            assertTrue(alice.send("list").contains("task 19"));
+            assertTrue(alice.send("list").contains("task 0"));
+        }
+    }
+
+    @Test
+    public void testBye_closesConnection() throws IOException {
+        try (Client alice = new Client("alice")) {
+            alice.send("bye");
+            assertNull(alice.in.readLine());
+        }
+    }
+
+    @Test
+    public void testInvalidUserName_rejected() throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            PrintWriter out = new PrintWriter(
+                    new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true);
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            out.println("user ../etc");
+
+            assertTrue(in.readLine().startsWith("Ugh"));
+            in.readLine();
+            assertEquals(".", in.readLine());
+            assertNull(in.readLine());
+        }
+    }
+
+    @Test
+    public void testCommands_recordLatency() throws IOException {
+        try (Client alice = new Client("alice")) {
+            alice.send("list");
+            alice.send("todo read book");
+        }
+        assertEquals(2, server.getLatency().getCount());
+    }
+
+    /**
+     * Minimal client that logs in and reads dot-terminated replies.
+     */
+    private class Client implements AutoCloseable {
+        private final Socket socket;
+        private final PrintWriter out;
+        private final BufferedReader in;
+
+        Client(String userName) throws IOException {
+            socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+            out = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true);
+            in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            out.println("user " + userName);
+            readReply();
+        }
+
+        String send(String command) throws IOException {
+            out.println(command);
+            return readReply();
+        }
+
+        String readReply() throws IOException {
+            List<String> lines = new ArrayList<>();
+            String line;
+            while ((line = in.readLine()) != null && !line.equals(".")) {
+                lines.add(line.startsWith("..") ? line.substring(1) : line);
+            }
+            return String.join("\n", lines);
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package monday.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for BackupScheduler.
+ */
+public class BackupSchedulerTest {
+
+    private Path testDataDir;
+    private Path source;
+    private BackupScheduler backups;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        testDataDir = Files.createTempDirectory("monday_backup");
+        source = testDataDir.resolve("monday.txt");
+        backups = new BackupScheduler(source, testDataDir.resolve("backups"), 2);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        backups.close();
+        try (Stream<Path> paths = Files.walk(testDataDir)) {
+            paths.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private void writeSource(String content, long modifiedMillis) throws IOException {
+        Files.writeString(source, content);
+        Files.setLastModifiedTime(source, FileTime.fromMillis(modifiedMillis));
+    }
+
+    @Test
+    public void testBackUp_copiesOnlyWhenChanged() throws IOException {
+        assertNull(backups.backUp());
+
+        writeSource("T | 0 | Read book\n", 1_000_000);
+        Path backup = backups.backUp();
+        assertNotNull(backup);
+        assertEquals("T | 0 | Read book\n", Files.readString(backup));
+        assertTrue(backup.getFileName().toString().startsWith("monday.txt."));
+
+        assertNull(backups.backUp());
+        assertEquals(List.of(backup), backups.getBackups());
+    }
+
+    @Test
+    public void testBackUp_keepsNewestGenerations() throws IOException {
+        writeSource("T | 0 | First\n", 1_000_000);
+        backups.backUp();
+        writeSource("T | 0 | Second\n", 2_000_000);
+        Path second = backups.backUp();
+        writeSource("T | 0 | Third\n", 3_000_000);
+        Path third = backups.backUp();
+
+        assertEquals(List.of(third, second), backups.getBackups());
+        assertEquals("T | 0 | Third\n", Files.readString(third));
+    }
+
+    @Test
+    public void testRequestBackup_copiesInBackground() throws Exception {
+        writeSource("T | 0 | Read book\n", 1_000_000);
+        backups.requestBackup();
+        assertEquals(List.of(), backups.getBackups());
+
+        backups.start(3600);
+        backups.requestBackup();
+        backups.close();
+        assertEquals(1, backups.getBackups().size());
+    }
+}
@@ -0,0 +1,656 @@
+package monday.storage;
+
+import monday.exception.MondayStorageException;
+import monday.task.Deadline;
+import monday.task.DescriptionPool;
+import monday.task.Event;
+import monday.task.LoadResult;
+import monday.task.TaskEdit;
+import monday.task.TaskList;
+import monday.task.ToDo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for FileStorage.
+ * Tests file I/O operations with temp directory to avoid affecting actual data.
+ */
+public class FileStorageTest {
+
+    private static final String TEST_DIR = "test_data";
+    private static final String TEST_FILE = "test_monday.txt";
+
+    private FileStorage storage;
+    private Path testDataDir;
+    private Path testFilePath;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        // Create unique temp directory for each test
+        String uniqueDir = TEST_DIR + "_" + System.currentTimeMillis();
+        testDataDir = Path.of(uniqueDir);
+        testFilePath = testDataDir.resolve(TEST_FILE);
+        storage = new FileStorage(uniqueDir, TEST_FILE);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        storage.close();
+        // Clean up test directory
+        if (Files.exists(testDataDir)) {
+            Files.walk(testDataDir)
+                    .sorted((a, b) -> b.compareTo(a))
+                    .forEach(path -> {
+                        try {
+                            Files.deleteIfExists(path);
+                        } catch (IOException e) {
+                            // Ignore cleanup errors
+                        }
+                    });
+        }
+    }
+
+    @Test
+    public void testConstructor_validInput() {
+        FileStorage testStorage = new FileStorage("data", "monday.txt");
+        assertNotNull(testStorage);
+    }
+
+    @Test
+    public void testLoadTasks_fileNotExists() throws MondayStorageException {
+        LoadResult result = storage.loadTasks();
+        assertNotNull(result);
+        assertEquals(0, result.getTasks().size());
+        assertEquals(0, result.getCorruptedLineCount());
+        assertFalse(result.hasCorruption());
+        assertTrue(Files.exists(testFilePath));
+    }
+
+    @Test
+    public void testLoadTasks_emptyFile() throws IOException, MondayStorageException {
+        Files.createDirectories(testDataDir);
+        Files.createFile(testFilePath);
+        LoadResult result = storage.loadTasks();
+        assertNotNull(result);
+        assertEquals(0, result.getTasks().size());
+        assertEquals(0, result.getCorruptedLineCount());
+    }
+
+    @Test
+    public void testLoadTasks_validTasks() throws IOException, MondayStorageException {
+        Files.createDirectories(testDataDir);
+        String content = "T | 0 | Read book\n"
+                + "D | 0 | Return book | by: 2024-12-02 18:00\n"
+                + "E | 0 | Meeting | from: 2024-12-25 14:00 | to: 2024-12-25 18:00\n"
+                + "T | 1 | Done task";
+        Files.writeString(testFilePath, content);
+
+        LoadResult result = storage.loadTasks();
+        List<monday.task.Task> tasks = result.getTasks();
+
+        assertEquals(4, tasks.size());
+        assertEquals(0, result.getCorruptedLineCount());
+        assertFalse(result.hasCorruption());
+    }
+
+    @Test
+    public void testLoadTasks_withDescriptionPool_sharesIdenticalDescriptions()
+            throws IOException, MondayStorageException {
+        Files.createDirectories(testDataDir);
+        String content = "T | 0 | standup\n"
+                + "T | 1 | standup\n"
+                + "D | 0 | standup | by: 2024-12-02 18:00";
+        Files.writeString(testFilePath, content);
+        FileStorage pooledStorage = new FileStorage(testDataDir.toString(), TEST_FILE, new DescriptionPool(16));
+
+        LoadResult result = pooledStorage.loadTasks();
+        List<monday.task.Task> tasks = result.getTasks();
+
+        assertSame(tasks.get(0).getDescription(), tasks.get(1).getDescription());
+        assertSame(tasks.get(0).getDescription(), tasks.get(2).getDescription());
+        assertEquals(2 * DescriptionPool.estimateBytes("standup"), result.getDeduplicatedBytes());
+        assertEquals(0, storage.loadTasks().getDeduplicatedBytes());
+    }
+
+    @Test
+    public void testLoadTasks_poolSharedWithAnotherThread_countsOnlyOwnSavings()
+            throws IOException, InterruptedException, MondayStorageException {
+        Files.createDirectories(testDataDir);
+        Files.writeString(testFilePath, "T | 0 | standup\n".repeat(1000));
+        DescriptionPool pool = new DescriptionPool(16);
+        FileStorage pooledStorage = new FileStorage(testDataDir.toString(), TEST_FILE, pool);
+        AtomicBoolean isLoading = new AtomicBoolean(true);
+        Thread otherUser = new Thread(() -> {
+            while (isLoading.get()) {
+                pool.intern(new String("meeting"));
+            }
+        });
+        otherUser.start();
+        while (pool.getSavedBytes() == 0) {
+            Thread.onSpinWait();
+        }
+
+        LoadResult result;
+        try {
+            result = pooledStorage.loadTasks();
+        } finally {
+            isLoading.set(false);
+            otherUser.join();
+        }
+
+        assertEquals(999 * DescriptionPool.estimateBytes("standup"), result.getDeduplicatedBytes());
+        assertTrue(pool.getSavedBytes() > result.getDeduplicatedBytes());
+    }
+
+    @Test
+    public void testLoadTasks_validTasks_doneStatus() throws IOException, MondayStorageException {
+        Files.createDirectories(testDataDir);
+        String content = "T | 1 | Done task\n"
+                + "D | 1 | Done deadline | by: 2024-12-02 18:00\n"
+                + "E | 1 | Done event | from: 2024-12-25 14:00 | to: 2024-12-25 18:00";
+        Files.writeString(testFilePath, content);
+
+        LoadResult result = storage.loadTasks();
+        List<monday.task.Task> tasks = result.getTasks();
+
+        assertEquals(3, tasks.size());
+        assertTrue(tasks.get(0).isDone());
+        assertTrue(tasks.get(1).isDone());
+        assertTrue(tasks.get(2).isDone());
+    }
+
+    @Test
+    public void testLoadTasks_corruptedLine_tooFewParts() throws IOException, MondayStorageException {
+        Files.createDirectories(testDataDir);
+        String content = "T | 0 | Valid task\n"
+                + "T | 0\n"  // Missing description
+                + "T | 0 | Another valid task";
+        Files.writeString(testFilePath, content);
+
+        LoadResult result = storage.loadTasks();
+        assertEquals(2, result.getTasks().size());
+        assertEquals(1, result.getCorruptedLineCount());
+        assertTrue(result.hasCorruption());
+    }
+
+    @Test
+    public void testLoadTasks_corruptedLine_emptyDescription() throws IOException, MondayStorageException {
+        Files.createDirectories(testDataDir);
+        String content = "T | 0 | Valid task\n"
+                + "T | 0 |   \n"  // Empty description after trim
+                + "T | 0 | Another valid task";
+        Files.writeString(testFilePath, content);
+
+        LoadResult result = storage.loadTasks();
+        assertEquals(2, result.getTasks().size());
+        assertEquals(1, result.getCorruptedLineCount());
+    }
+
+    @Test
+    public void testLoadTasks_corruptedLine_invalidDate() throws IOException, MondayStorageException {
+        Files.createDirectories(testDataDir);
+        String content = "D | 0 | Task | by: invalid-date\n"
+                + "T | 0 | Valid task";
+        Files.writeString(testFilePath, content);
+
+        LoadResult result = storage.loadTasks();
+        assertEquals(1, result.getTasks().size());
+        assertEquals(1, result.getCorruptedLineCount());
+    }
+
+    @Test
+    public void testLoadTasks_corruptedLine_unknownType() throws IOException, MondayStorageException {
+        Files.createDirectories(testDataDir);
+        String content = "T | 0 | Valid task\n"
+                + "X | 0 | Unknown type\n"
+                + "T | 0 | Another valid task";
+        Files.writeString(testFilePath, content);
+
+        LoadResult result = storage.loadTasks();
+        assertEquals(2, result.getTasks().size());
+        assertEquals(1, result.getCorruptedLineCount());
+    }
+
+    @Test
+    public void testLoadTasks_corruptedLine_deadlineMissingBy() throws IOException, MondayStorageException {
+        Files.createDirectories(testDataDir);
+        String content = "D | 0 | Task\n"
+                + "T | 0 | Valid task";
+        Files.writeString(testFilePath, content);
+
+        LoadResult result = storage.loadTasks();
+        assertEquals(1, result.getTasks().size());
+        assertEquals(1, result.getCorruptedLineCount());
+    }
+
+    @Test
+    public void testLoadTasks_corruptedLine_eventMissingFrom() throws IOException, MondayStorageException {
+        Files.createDirectories(testDataDir);
+        String content = "E | 0 | Event | to: 2024-12-25 18:00\n"
+                + "T | 0 | Valid task";
+        Files.writeString(testFilePath, content);
+
+        LoadResult result = storage.loadTasks();
+        assertEquals(1, result.getTasks().size());
+        assertEquals(1, result.getCorruptedLineCount());
+    }
+
+    @Test
+    public void testLoadTasks_corruptedLine_eventMissingTo() throws IOException, MondayStorageException {
+        Files.createDirectories(testDataDir);
+        String content = "E | 0 | Event | from: 2024-12-25 14:00\n"
+                + "T | 0 | Valid task";
+        Files.writeString(testFilePath, content);
+
+        LoadResult result = storage.loadTasks();
+        assertEquals(1, result.getTasks().size());
+        assertEquals(1, result.getCorruptedLineCount());
+    }
+
+    @Test
+    public void testLoadTasks_emptyLinesSkipped() throws IOException, MondayStorageException {
+        Files.createDirectories(testDataDir);
+        String content = "T | 0 | Task 1\n"
+                + "\n"
+                + "T | 0 | Task 2\n"
+                + "   \n"
+                + "T | 0 | Task 3";
+        Files.writeString(testFilePath, content);
+
+        LoadResult result = storage.loadTasks();
+        assertEquals(3, result.getTasks().size());
+        assertEquals(0, result.getCorruptedLineCount());
+    }
+
+    @Test
+    public void testLoadTasks_extraWhitespace() throws IOException, MondayStorageException {
+        Files.createDirectories(testDataDir);
+        String content = "T  |  0  |  Task with spaces\n"
+                + "D | 0 | Deadline | by: 2024-12-02 18:00";
+        Files.writeString(testFilePath, content);
+
+        LoadResult result = storage.loadTasks();
+        assertEquals(2, result.getTasks().size());
+        assertEquals("Task with spaces", result.getTasks().get(0).getDescription());
+    }
+
+    @Test
+    public void testSaveTasks_validList() throws MondayStorageException, IOException {
+        List<monday.task.Task> tasks = List.of(
+                new ToDo("Read book"),
+                new Deadline("Return book", LocalDateTime.of(2024, 12, 2, 18, 0))
+        );
+
+        storage.saveTasks(tasks);
+
+        assertTrue(Files.exists(testFilePath));
+        String content = Files.readString(testFilePath);
+        assertTrue(content.contains("Read book"));
+        assertTrue(content.contains("Return book"));
+        assertTrue(content.contains("by: 2024-12-02 18:00"));
+    }
+
+    @Test
+    public void testSaveTasks_emptyList() throws MondayStorageException, IOException {
+        List<monday.task.Task> tasks = List.of();
+
+        storage.saveTasks(tasks);
+
+        assertTrue(Files.exists(testFilePath));
+        String content = Files.readString(testFilePath);
+        assertTrue(content.isEmpty());
+    }
+
+    @Test
+    public void testSaveTasks_allTaskTypes() throws MondayStorageException, IOException {
+        List<monday.task.Task> tasks = List.of(
+                new ToDo("Todo task"),
+                new Deadline("Deadline task", LocalDateTime.of(2024, 12, 2, 18, 0)),
+                new Event("Event task", LocalDateTime.of(2024, 12, 25, 14, 0),
+                        LocalDateTime.of(2024, 12, 25, 18, 0))
+        );
+
+        storage.saveTasks(tasks);
+
+        assertTrue(Files.exists(testFilePath));
+        String content = Files.readString(testFilePath);
+        assertTrue(content.contains("T | 0 | Todo task"));
+        assertTrue(content.contains("D | 0 | Deadline task"));
+        assertTrue(content.contains("E | 0 | Event task"));
+    }
+
+    @Test
+    public void testSaveTasks_overwritesExisting() throws MondayStorageException, IOException {
+        Files.createDirectories(testDataDir);
+        // Write initial content
+        Files.writeString(testFilePath, "T | 0 | Old task");
+
+        List<monday.task.Task> tasks = List.of(
+                new ToDo("New task")
+        );
+
+        storage.saveTasks(tasks);
+
+        String content = Files.readString(testFilePath);
+        assertFalse(content.contains("Old task"));
+        assertTrue(content.contains("New task"));
+    }
+
+    @Test
+    public void testSaveTasks_failedWrite_keepsPreviousFile() throws MondayStorageException, IOException {
+        storage.saveTasks(List.of(new ToDo("Old task")));
+        // A directory where the temporary file goes makes the next save fail before the file is replaced
+        Files.createDirectory(testDataDir.resolve(TEST_FILE + ".tmp"));
+
+        assertThrows(MondayStorageException.class, () -> storage.saveTasks(List.of(new ToDo("New task"))));
+
+        assertEquals("T | 0 | Old task", Files.readString(testFilePath).trim());
+    }
+
+    @Test
+    public void testSaveAndLoad_roundtrip() throws MondayStorageException {
+        List<monday.task.Task> originalTasks = List.of(
+                new ToDo("Todo task"),
+                new Deadline("Deadline task", LocalDateTime.of(2024, 12, 2, 18, 0)),
+                new Event("Event task", LocalDateTime.of(2024, 12, 25, 14, 0),
+                        LocalDateTime.of(2024, 12, 25, 18, 0))
+        );
+
+        storage.saveTasks(originalTasks);
+        LoadResult result = storage.loadTasks();
+
+        List<monday.task.Task> loadedTasks = result.getTasks();
+        assertEquals(3, loadedTasks.size());
+        assertEquals(0, result.getCorruptedLineCount());
+
+        assertEquals("Todo task", loadedTasks.get(0).getDescription());
+        assertEquals("Deadline task", loadedTasks.get(1).getDescription());
+        assertEquals("Event task", loadedTasks.get(2).getDescription());
+    }
+
+    @Test
+    public void testSaveTasks_doneStatus() throws MondayStorageException, IOException {
+        List<monday.task.Task> tasks = List.of(
+                new ToDo("Undone task"),
+                new ToDo("Done task")
+        );
+        tasks.get(1).markAsDone();
+
+        storage.saveTasks(tasks);
+
+        String content = Files.readString(testFilePath);
+        assertTrue(content.contains("T | 0 | Undone task"));
+        assertTrue(content.contains("T | 1 | Done task"));
+    }
+
+    @Test
+    public void testSaveTasks_compressed_detectedOnLoad() throws MondayStorageException, IOException {
+        List<monday.task.Task> tasks = List.of(
+                new ToDo("Todo task"),
+                new Deadline("Deadline task", LocalDateTime.of(2024, 12, 2, 18, 0)));
+        tasks.get(1).markAsDone();
+        storage.setCompressed(true);
+
+        storage.saveTasks(tasks);
+
+        byte[] content = Files.readAllBytes(testFilePath);
+        assertEquals(0x1f, content[0] & 0xff);
+        assertEquals(0x8b, content[1] & 0xff);
+        LoadResult result = new FileStorage(testDataDir.toString(), TEST_FILE).loadTasks();
+        assertEquals(tasks.toString(), result.getTasks().toString());
+        assertFalse(result.hasCorruption());
+    }
+
+    @Test
+    public void testSaveTasks_compressionTurnedOff_writesPlainText() throws MondayStorageException, IOException {
+        storage.setCompressed(true);
+        storage.saveTasks(List.of(new ToDo("Read book")));
+        storage.loadTasks();
+        storage.setCompressed(false);
+
+        storage.saveTasks(storage.loadTasks().getTasks());
+
+        assertEquals("T | 0 | Read book", Files.readString(testFilePath).trim());
+    }
+
+    @Test
+    public void testAppendEdit_afterCompressedSave_replayedOnNextLoad() throws MondayStorageException {
+        storage.setCompressed(true);
+        storage.loadTasks();
+        ToDo added = new ToDo("Write report");
+        storage.saveTasks(List.of(new ToDo("Read book")));
+
+        storage.appendEdit(TaskEdit.added(2, added));
+
+        List<monday.task.Task> tasks = new FileStorage(testDataDir.toString(), TEST_FILE).loadTasks().getTasks();
+        assertEquals(2, tasks.size());
+        assertEquals("Write report", tasks.get(1).getDescription());
+    }
+
+    @Test
+    public void testAppendEdit_replayedOnNextLoad() throws IOException, MondayStorageException {
+        Files.createDirectories(testDataDir);
+        Files.writeString(testFilePath, "T | 0 | Read book\nT | 0 | Return book\n");
+        storage.loadTasks();
+        ToDo added = new ToDo("Write report");
+
+        storage.appendEdit(TaskEdit.added(3, added));
+        storage.appendEdit(TaskEdit.marked(1, added, true, false));
+        storage.appendEdit(TaskEdit.deleted(2, added));
+
+        FileStorage reloaded = new FileStorage(testDataDir.toString(), TEST_FILE);
+        List<monday.task.Task> tasks = reloaded.loadTasks().getTasks();
+        assertEquals(2, tasks.size());
+        assertTrue(tasks.get(0).isDone());
+        assertEquals("Write report", tasks.get(1).getDescription());
+        assertEquals(3, reloaded.getJournalEntryCount());
+    }
+
+    @Test
+    public void testSaveTasks_clearsJournal() throws MondayStorageException {
+        storage.loadTasks();
+        ToDo added = new ToDo("Read book");
+        storage.appendEdit(TaskEdit.added(1, added));
+
+        storage.saveTasks(List.of(added));
+
+        assertEquals(0, storage.getJournalEntryCount());
+        assertFalse(Files.exists(testDataDir.resolve(TEST_FILE + ".journal")));
+        assertEquals(1, new FileStorage(testDataDir.toString(), TEST_FILE).loadTasks().getTasks().size());
+    }
+
+    @Test
+    public void testLoadTasks_staleJournal_ignored() throws IOException, MondayStorageException {
+        storage.loadTasks();
+        storage.appendEdit(TaskEdit.added(1, new ToDo("Read book")));
+        // Simulate a crash after the snapshot was rewritten but before the journal was removed
+        Files.writeString(testFilePath, "T | 0 | Read book\n");
+
+        LoadResult result = storage.loadTasks();
+
+        assertEquals(1, result.getTasks().size());
+        assertFalse(Files.exists(testDataDir.resolve(TEST_FILE + ".journal")));
+    }
+
+    @Test
+    public void testLoadTasks_secondInstance_readOnlyUntilFirstCloses() throws MondayStorageException {
+        storage.loadTasks();
+        FileStorage other = new FileStorage(testDataDir.toString(), TEST_FILE);
+        try {
+            other.loadTasks();
+
+            assertFalse(storage.isReadOnly());
+            assertTrue(other.isReadOnly());
+            assertThrows(MondayStorageException.class, () -> other.saveTasks(List.of()));
+            assertThrows(MondayStorageException.class,
+                    () -> other.appendEdit(TaskEdit.added(1, new ToDo("Read book"))));
+
+            storage.close();
+            assertNotNull(other.applyExternalChanges(new TaskList()));
+            assertFalse(other.isReadOnly());
+            other.saveTasks(List.of(new ToDo("Read book")));
+        } finally {
+            other.close();
+        }
+    }
+
+    @Test
+    public void testApplyExternalChanges_followsJournalIncrementally() throws MondayStorageException {
+        storage.loadTasks();
+        ToDo first = new ToDo("Read book");
+        storage.saveTasks(List.of(first));
+        FileStorage other = new FileStorage(testDataDir.toString(), TEST_FILE);
+        try {
+            TaskList followed = new TaskList(other.loadTasks().getTasks());
+
+            storage.appendEdit(TaskEdit.added(2, new ToDo("Return book")));
+            assertEquals(1, other.applyExternalChanges(followed).size());
+            storage.appendEdit(TaskEdit.marked(1, first, true, false));
+            storage.appendEdit(TaskEdit.deleted(2, first));
+            assertEquals(2, other.applyExternalChanges(followed).size());
+            assertEquals(List.of(), other.applyExternalChanges(followed));
+
+            assertEquals("[[T][X] Read book]", followed.getTasks().toString());
+            assertEquals(3, other.getJournalEntryCount());
+
+            // A full save starts a new version, which can only be followed by loading again
+            storage.saveTasks(List.of(new ToDo("Write report")));
+            assertNull(other.applyExternalChanges(followed));
+            assertEquals("[[T][ ] Write report]", other.loadTasks().getTasks().toString());
+            assertEquals(List.of(), other.applyExternalChanges(followed));
+        } finally {
+            other.close();
+        }
+    }
+
+    @Test
+    public void testApplyExternalChanges_halfWrittenJournalLine_appliedOnceWhenComplete() throws Exception {
+        storage.loadTasks();
+        storage.saveTasks(List.of(new ToDo("Read book")));
+        storage.appendEdit(TaskEdit.added(2, new ToDo("Return book")));
+        storage.appendEdit(TaskEdit.added(3, new ToDo("Write report")));
+        Path journalPath = testDataDir.resolve(TEST_FILE + ".journal");
+        byte[] journal = Files.readAllBytes(journalPath);
+        // The writer is caught mid-append: its last entry is missing the end
+        Files.write(journalPath, Arrays.copyOf(journal, journal.length - 5));
+
+        FileStorage other = new FileStorage(testDataDir.toString(), TEST_FILE);
+        try {
+            TaskList followed = new TaskList(other.loadTasks().getTasks());
+            assertEquals(2, followed.getTaskCount());
+            assertEquals(List.of(), other.applyExternalChanges(followed));
+            assertEquals(List.of(), other.applyExternalChanges(followed));
+
+            Files.write(journalPath, journal);
+            assertEquals(1, other.applyExternalChanges(followed).size());
+            assertEquals("[[T][ ] Read book, [T][ ] Return book, [T][ ] Write report]",
+                    followed.getTasks().toString());
+        } finally {
+            other.close();
+        }
+    }
+
+    @Test
+    public void testApplyExternalChanges_handEdit_appliesOnlyChangedLines() throws Exception {
+        storage.loadTasks();
+        ToDo first = new ToDo("Read book");
+        ToDo second = new ToDo("Return book");
+        ToDo third = new ToDo("Write report");
+        storage.saveTasks(List.of(first, second, third));
+        TaskList taskList = new TaskList(List.of(first, second, third));
+
+        Files.writeString(testFilePath, "T | 0 | Read book\nT | 1 | Return book\nT | 0 | Buy milk\n"
+                + "T | 0 | Write report\n");
+        List<TaskEdit> edits = storage.applyExternalChanges(taskList);
+
+        assertEquals(2, edits.size());
+        assertEquals(TaskEdit.Kind.MARK, edits.get(0).getKind());
+        assertEquals(TaskEdit.Kind.ADD, edits.get(1).getKind());
+        assertEquals(3, edits.get(1).getTaskNumber());
+        assertEquals("[[T][ ] Read book, [T][X] Return book, [T][ ] Buy milk, [T][ ] Write report]",
+                taskList.getTasks().toString());
+        assertSame(second, taskList.getTask(2));
+        assertSame(third, taskList.getTask(4));
+
+        // Nothing changed since, and later journal entries belong to the edited file
+        assertEquals(List.of(), storage.applyExternalChanges(taskList));
+        storage.appendEdit(TaskEdit.deleted(1, first));
+        assertEquals("[[T][X] Return book, [T][ ] Buy milk, [T][ ] Write report]",
+                new FileStorage(testDataDir.toString(), TEST_FILE).loadTasks().getTasks().toString());
+    }
+
+    @Test
+    public void testApplyExternalChanges_handEditWithJournal_mergesAndReloads() throws Exception {
+        storage.loadTasks();
+        ToDo first = new ToDo("Read book");
+        storage.saveTasks(List.of(first));
+        storage.appendEdit(TaskEdit.added(2, new ToDo("Return book")));
+
+        Files.writeString(testFilePath, "T | 0 | Buy milk\nT | 0 | Read book\n");
+        assertNull(storage.applyExternalChanges(new TaskList()));
+
+        assertEquals("[[T][ ] Buy milk, [T][ ] Return book, [T][ ] Read book]",
+                storage.loadTasks().getTasks().toString());
+        assertEquals(0, storage.getJournalEntryCount());
+    }
+
+    @Test
+    public void testRestoreBackup_replacesTasksAndKeepsCurrentAsBackup() throws Exception {
+        storage.loadTasks();
+        storage.saveTasks(List.of(new ToDo("Read book")));
+        assertEquals(List.of(), storage.getBackupNames());
+
+        storage.startBackups(3600);
+        storage.saveTasks(List.of(new ToDo("Read book")));
+        storage.close(); // Waits for the background backup
+        storage.loadTasks();
+        List<String> backupNames = storage.getBackupNames();
+        assertEquals(1, backupNames.size());
+
+        storage.saveTasks(List.of(new ToDo("Write report")));
+        storage.appendEdit(TaskEdit.added(2, new ToDo("Return book")));
+        storage.restoreBackup(backupNames.get(0));
+
+        assertEquals("[[T][ ] Read book]", storage.loadTasks().getTasks().toString());
+        assertEquals(0, storage.getJournalEntryCount());
+        assertEquals(2, storage.getBackupNames().size());
+        assertThrows(MondayStorageException.class, () -> storage.restoreBackup("monday.txt.nope"));
+    }
+
+    @Test
+    public void testStartBackups_readOnly_waitsForWriteLock() throws Exception {
+        storage.loadTasks();
+        storage.saveTasks(List.of(new ToDo("Read book")));
+        FileStorage other = new FileStorage(testDataDir.toString(), TEST_FILE);
+        other.startBackups(1);
+        other.loadTasks();
+
+        Thread.sleep(1500);
+        assertEquals(List.of(), other.getBackupNames());
+
+        storage.close();
+        other.applyExternalChanges(new TaskList(other.loadTasks().getTasks()));
+        assertFalse(other.isReadOnly());
+        other.saveTasks(List.of(new ToDo("Write report")));
+        other.close(); // Waits for the background backup
+        assertFalse(other.getBackupNames().isEmpty());
+    }
+}
@@ -0,0 +1,48 @@
+package monday.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for FileWatcher.
+ */
+public class FileWatcherTest {
+
+    private Path testDataDir;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        testDataDir = Files.createTempDirectory("monday_watch");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(testDataDir)) {
+            paths.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testStart_reportsChangedMatchingFile() throws Exception {
+        CountDownLatch changed = new CountDownLatch(1);
+        try (FileWatcher watcher = new FileWatcher(testDataDir, "monday.txt", changed::countDown)) {
+            watcher.start();
+            Files.writeString(testDataDir.resolve("other.txt"), "ignored");
+            Files.writeString(testDataDir.resolve("monday.txt"), "T | 0 | Read book\n");
+            Files.writeString(testDataDir.resolve("monday.txt.journal"), "# snapshot 1\n");
+
+            // Some platforms poll for changes, so allow plenty of time
+            assertTrue(changed.await(30, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package monday.storage;
+
+import monday.exception.MondayStorageException;
+import monday.task.LoadResult;
+import monday.task.Task;
+import monday.task.TaskEdit;
+import monday.task.ToDo;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for InMemoryStorage.
+ * Tests that saves and appended edits come back on load, like the file storage.
+ */
+public class InMemoryStorageTest {
+
+    @Test
+    public void testLoadTasks_empty() throws MondayStorageException {
+        LoadResult result = new InMemoryStorage().loadTasks();
+
+        assertTrue(result.getTasks().isEmpty());
+        assertFalse(result.hasCorruption());
+    }
+
+    @Test
+    public void testSaveTasks_thenLoad() throws MondayStorageException {
+        Storage storage = new InMemoryStorage();
+        storage.saveTasks(List.of(new ToDo("read book"), new ToDo("return book")));
+
+        List<Task> tasks = storage.loadTasks().getTasks();
+
+        assertEquals(2, tasks.size());
+        assertEquals("return book", tasks.get(1).getDescription());
+    }
+
+    @Test
+    public void testAppendEdit_appliedOnLoadUntilNextSave() throws MondayStorageException {
+        Storage storage = new InMemoryStorage(List.of(new ToDo("read book")));
+        Task added = new ToDo("return book");
+
+        storage.appendEdit(TaskEdit.added(1, added));
+        storage.appendEdit(TaskEdit.deleted(2, storage.loadTasks().getTasks().get(1)));
+
+        assertEquals(2, storage.getJournalEntryCount());
+        List<Task> tasks = storage.loadTasks().getTasks();
+        assertEquals(1, tasks.size());
+        assertEquals("return book", tasks.get(0).getDescription());
+
+        storage.saveTasks(List.of());
+        assertEquals(0, storage.getJournalEntryCount());
+        assertTrue(storage.loadTasks().getTasks().isEmpty());
+    }
+
+    @Test
+    public void testLoadTasks_returnsIndependentList() throws MondayStorageException {
+        Storage storage = new InMemoryStorage(List.of(new ToDo("read book")));
+
+        storage.loadTasks().getTasks().clear();
+
+        assertEquals(1, storage.loadTasks().getTasks().size());
+    }
+}
@@ -0,0 +1,137 @@
+package monday.storage;
+
+import monday.exception.MondayStorageException;
+import monday.task.Deadline;
+import monday.task.Event;
+import monday.task.Task;
+import monday.task.TaskEdit;
+import monday.task.TaskList;
+import monday.task.ToDo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for JdbcStorage.
+ * Tests against an embedded H2 database in a temp directory.
+ */
+public class JdbcStorageTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 12, 25, 14, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 12, 25, 16, 0);
+
+    private Path testDataDir;
+    private JdbcStorage storage;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        testDataDir = Files.createTempDirectory("monday_jdbc");
+        storage = newStorage();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        storage.close();
+        try (Stream<Path> paths = Files.walk(testDataDir)) {
+            paths.sorted((a, b) -> b.compareTo(a))
+                    .forEach(path -> {
+                        try {
+                            Files.deleteIfExists(path);
+                        } catch (IOException e) {
+                            // Ignore cleanup errors
+                        }
+                    });
+        }
+    }
+
+    private JdbcStorage newStorage() {
+        return new JdbcStorage("jdbc:h2:file:" + testDataDir.resolve("monday").toAbsolutePath(), null);
+    }
+
+    private List<Task> reload() throws MondayStorageException {
+        storage.close();
+        storage = newStorage();
+        return storage.loadTasks().getTasks();
+    }
+
+    @Test
+    public void testLoadTasks_emptyDatabase() throws MondayStorageException {
+        assertTrue(storage.loadTasks().getTasks().isEmpty());
+    }
+
+    @Test
+    public void testSaveTasks_allTypesSurviveReopen() throws MondayStorageException {
+        Task deadline = new Deadline("return book", FROM);
+        deadline.markAsDone();
+        storage.saveTasks(List.of(new ToDo("read book"), deadline, new Event("meeting", FROM, TO)));
+
+        List<Task> tasks = reload();
+
+        assertEquals("[[T][ ] read book, [D][X] return book (by: Dec 25 2024 1400), "
+                + "[E][ ] meeting (from: Dec 25 2024 1400 to: Dec 25 2024 1600)]",
+                tasks.toString());
+    }
+
+    @Test
+    public void testSaveTasks_timeInDaylightSavingGap_keptExactly() throws MondayStorageException {
+        TimeZone defaultZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+        try {
+            // 2:30 does not exist in New York on this day; clocks jump from 2:00 to 3:00
+            LocalDateTime inGap = LocalDateTime.of(2024, 3, 10, 2, 30);
+            storage.saveTasks(List.of(new Deadline("file taxes", inGap)));
+
+            Deadline reloaded = (Deadline) reload().get(0);
+
+            assertEquals(inGap, reloaded.getByDateTime());
+        } finally {
+            TimeZone.setDefault(defaultZone);
+        }
+    }
+
+    @Test
+    public void testAppendEdit_matchesTaskListAfterReopen() throws MondayStorageException {
+        List<Task> initial = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            initial.add(new ToDo("task " + i));
+        }
+        storage.saveTasks(initial);
+        TaskList expected = new TaskList(initial);
+
+        // Many inserts at the front use up the gap between keys and force a respread
+        for (int i = 0; i < 40; i++) {
+            apply(TaskEdit.added(1, new ToDo("front " + i)), expected);
+        }
+        apply(TaskEdit.deleted(3, expected.getTask(3)), expected);
+        apply(TaskEdit.added(expected.getTaskCount() + 1, new ToDo("last")), expected);
+        apply(TaskEdit.marked(2, expected.getTask(2), true, false), expected);
+
+        assertEquals(expected.getTasks().toString(), reload().toString());
+        assertEquals(0, storage.getJournalEntryCount());
+    }
+
+    private void apply(TaskEdit edit, TaskList expected) throws MondayStorageException {
+        edit.applyTo(expected);
+        storage.appendEdit(edit);
+    }
+
+    @Test
+    public void testAppendEdit_beforeLoad_throws() {
+        assertThrows(MondayStorageException.class,
+                () -> storage.appendEdit(TaskEdit.added(1, new ToDo("read book"))));
+    }
+}
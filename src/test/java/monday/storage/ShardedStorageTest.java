@@ -0,0 +1,206 @@
+package monday.storage;
+
+import monday.exception.MondayStorageException;
+import monday.task.LoadResult;
+import monday.task.Task;
+import monday.task.TaskEdit;
+import monday.task.ToDo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for ShardedStorage.
+ * Tests segment files in a temp directory to avoid affecting actual data.
+ */
+public class ShardedStorageTest {
+
+    private static final String TEST_FILE = "test_monday.txt";
+    private static final int SEGMENT_SIZE = 3;
+
+    private Path testDataDir;
+    private Path segmentDir;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        testDataDir = Files.createTempDirectory("monday_sharded");
+        segmentDir = testDataDir.resolve(TEST_FILE + ".segments");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(testDataDir)) {
+            paths.sorted((a, b) -> b.compareTo(a))
+                    .forEach(path -> {
+                        try {
+                            Files.deleteIfExists(path);
+                        } catch (IOException e) {
+                            // Ignore cleanup errors
+                        }
+                    });
+        }
+    }
+
+    private ShardedStorage newStorage() {
+        return new ShardedStorage(testDataDir.toString(), TEST_FILE, null, SEGMENT_SIZE);
+    }
+
+    private static List<Task> makeTasks(int count) {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            tasks.add(new ToDo("task " + i));
+        }
+        return tasks;
+    }
+
+    private Set<String> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(segmentDir)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith("segment-"))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    @Test
+    public void testSaveAndLoad_roundTripAcrossSegments() throws MondayStorageException {
+        ShardedStorage storage = newStorage();
+        storage.loadTasks();
+        List<Task> tasks = makeTasks(10);
+        tasks.get(4).markAsDone();
+        storage.saveTasks(tasks);
+
+        ShardedStorage reloaded = newStorage();
+        LoadResult result = reloaded.loadTasks();
+
+        assertEquals(4, reloaded.getSegmentCount());
+        assertEquals(tasks.toString(), result.getTasks().toString());
+        assertFalse(result.hasCorruption());
+    }
+
+    @Test
+    public void testSaveAndLoad_compressedSegments() throws MondayStorageException, IOException {
+        ShardedStorage storage = newStorage();
+        storage.setCompressed(true);
+        storage.loadTasks();
+        List<Task> tasks = makeTasks(10);
+        storage.saveTasks(tasks);
+
+        Path segment = segmentDir.resolve(listSegments().iterator().next());
+        assertEquals(0x1f, Files.readAllBytes(segment)[0] & 0xff);
+        assertEquals(tasks.toString(), newStorage().loadTasks().getTasks().toString());
+    }
+
+    @Test
+    public void testSaveTasks_rewritesOnlyChangedSegments() throws MondayStorageException, IOException {
+        ShardedStorage storage = newStorage();
+        storage.loadTasks();
+        List<Task> tasks = makeTasks(9);
+        storage.saveTasks(tasks);
+        Set<String> before = listSegments();
+
+        tasks.get(4).markAsDone();
+        storage.saveTasks(tasks);
+        Set<String> after = listSegments();
+
+        assertEquals(3, after.size());
+        assertTrue(after.contains("segment-0-1.txt"));
+        assertTrue(after.contains("segment-1-2.txt"));
+        assertTrue(after.contains("segment-2-1.txt"));
+        assertFalse(after.contains("segment-1-1.txt"));
+        assertEquals(3, before.size());
+    }
+
+    @Test
+    public void testLoadTasks_changedSegmentSize_resplitOnNextSave() throws MondayStorageException, IOException {
+        ShardedStorage storage = newStorage();
+        storage.loadTasks();
+        List<Task> tasks = makeTasks(9);
+        storage.saveTasks(tasks);
+        storage.close();
+
+        ShardedStorage resized = new ShardedStorage(testDataDir.toString(), TEST_FILE, null, SEGMENT_SIZE + 1);
+        List<Task> loaded = resized.loadTasks().getTasks();
+        assertEquals(tasks.toString(), loaded.toString());
+        resized.saveTasks(loaded);
+        resized.close();
+
+        assertEquals(Set.of("segment-0-2.txt", "segment-1-2.txt", "segment-2-2.txt"), listSegments());
+        ShardedStorage reloaded = new ShardedStorage(testDataDir.toString(), TEST_FILE, null, SEGMENT_SIZE + 1);
+        assertEquals(tasks.toString(), reloaded.loadTasks().getTasks().toString());
+        reloaded.close();
+    }
+
+    @Test
+    public void testSaveTasks_fewerTasks_dropsSegments() throws MondayStorageException, IOException {
+        ShardedStorage storage = newStorage();
+        storage.loadTasks();
+        List<Task> tasks = makeTasks(9);
+        storage.saveTasks(tasks);
+
+        storage.saveTasks(tasks.subList(0, 4));
+
+        assertEquals(2, listSegments().size());
+        assertEquals(4, newStorage().loadTasks().getTasks().size());
+    }
+
+    @Test
+    public void testLoadTasks_singleFile_splitOnFirstSave() throws MondayStorageException, IOException {
+        Files.writeString(testDataDir.resolve(TEST_FILE), "T | 0 | Read book\nT | 1 | Return book\n"
+                + "T | 0 | Buy book\nT | 0 | Sell book\n");
+        ShardedStorage storage = newStorage();
+        List<Task> tasks = storage.loadTasks().getTasks();
+        assertEquals(4, tasks.size());
+        assertEquals(0, storage.getSegmentCount());
+
+        storage.saveTasks(tasks);
+
+        assertEquals(2, storage.getSegmentCount());
+        assertEquals(tasks.toString(), newStorage().loadTasks().getTasks().toString());
+    }
+
+    @Test
+    public void testAppendEdit_replayedOnNextLoad() throws MondayStorageException {
+        ShardedStorage storage = newStorage();
+        storage.loadTasks();
+        storage.saveTasks(makeTasks(4));
+
+        storage.appendEdit(TaskEdit.added(5, new ToDo("task 5")));
+
+        ShardedStorage reloaded = newStorage();
+        List<Task> tasks = reloaded.loadTasks().getTasks();
+        assertEquals(5, tasks.size());
+        assertEquals("task 5", tasks.get(4).getDescription());
+        assertEquals(1, reloaded.getJournalEntryCount());
+    }
+
+    @Test
+    public void testLoadTasks_missingSegment_countedAsCorrupted() throws MondayStorageException, IOException {
+        ShardedStorage storage = newStorage();
+        storage.loadTasks();
+        storage.saveTasks(makeTasks(7));
+        storage.close();
+        Files.delete(segmentDir.resolve("segment-1-1.txt"));
+
+        ShardedStorage reloaded = newStorage();
+        LoadResult result = reloaded.loadTasks();
+        assertEquals(4, result.getTasks().size());
+        assertEquals(3, result.getCorruptedLineCount());
+
+        reloaded.saveTasks(result.getTasks());
+        assertEquals(4, newStorage().loadTasks().getTasks().size());
+    }
+}
@@ -0,0 +1,135 @@
+package monday.storage;
+
+import monday.exception.MondayStorageException;
+import monday.task.Deadline;
+import monday.task.Event;
+import monday.task.Task;
+import monday.task.ToDo;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Measures what compressing full saves costs in CPU against what it saves in bytes written.
+ * Not a test: run it with {@code gradlew snapshotBenchmark -PbenchmarkDir=<dir>}, pointing at the
+ * disk whose speed matters, such as a spinning disk or a network-mounted home directory.
+ *
+ * <p>Saves usually land in the page cache, so the wall times measured on the directory can hide the
+ * device. The benchmark therefore also estimates each save at typical spinning-disk and network
+ * throughputs, as the CPU time spent encoding plus the time to move the bytes written.
+ */
+public class SnapshotBenchmark {
+
+    private static final int DEFAULT_TASK_COUNT = 100_000;
+    private static final int ROUNDS = 5;
+    private static final double HDD_BYTES_PER_SECOND = 80e6;
+    private static final double NETWORK_BYTES_PER_SECOND = 10e6;
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args The directory to write in (default: the temp directory) and the number of tasks.
+     * @throws IOException If the files cannot be written.
+     * @throws MondayStorageException If the tasks cannot be saved or loaded.
+     */
+    public static void main(String[] args) throws IOException, MondayStorageException {
+        Path parent = Path.of(args.length > 0 ? args[0] : System.getProperty("java.io.tmpdir"));
+        int taskCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_TASK_COUNT;
+        List<Task> tasks = createTasks(taskCount);
+
+        Path dir = Files.createTempDirectory(parent, "monday-benchmark");
+        try {
+            System.out.printf("%d tasks in %s, median of %d rounds%n", taskCount, parent, ROUNDS);
+            System.out.printf("%-10s %10s %10s %10s %10s %12s %12s%n", "format", "bytes", "save cpu",
+                    "save wall", "load wall", "at 80 MB/s", "at 10 MB/s");
+            run(dir, "plain.txt", tasks, false);
+            run(dir, "compressed.txt", tasks, true);
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    private static void run(Path dir, String fileName, List<Task> tasks, boolean isCompressed)
+            throws IOException, MondayStorageException {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long[] saveCpu = new long[ROUNDS];
+        long[] saveWall = new long[ROUNDS];
+        long[] loadWall = new long[ROUNDS];
+
+        FileStorage storage = new FileStorage(dir.toString(), fileName);
+        storage.setCompressed(isCompressed);
+        storage.loadTasks();
+        storage.saveTasks(tasks); // Warm up
+        for (int i = 0; i < ROUNDS; i++) {
+            long cpuStart = threads.getCurrentThreadCpuTime();
+            long wallStart = System.nanoTime();
+            storage.saveTasks(tasks);
+            saveWall[i] = System.nanoTime() - wallStart;
+            saveCpu[i] = threads.getCurrentThreadCpuTime() - cpuStart;
+        }
+        storage.close();
+        long bytes = Files.size(dir.resolve(fileName));
+
+        for (int i = 0; i < ROUNDS; i++) {
+            FileStorage reader = new FileStorage(dir.toString(), fileName);
+            long wallStart = System.nanoTime();
+            reader.loadTasks();
+            loadWall[i] = System.nanoTime() - wallStart;
+            reader.close();
+        }
+
+        double cpuMillis = median(saveCpu) / NANOS_PER_MILLI;
+        System.out.printf("%-10s %10d %8.1fms %8.1fms %8.1fms %10.1fms %10.1fms%n",
+                isCompressed ? "gzip" : "plain", bytes, cpuMillis, median(saveWall) / NANOS_PER_MILLI,
+                median(loadWall) / NANOS_PER_MILLI, cpuMillis + bytes * 1000 / HDD_BYTES_PER_SECOND,
+                cpuMillis + bytes * 1000 / NETWORK_BYTES_PER_SECOND);
+    }
+
+    /**
+     * Creates tasks resembling a real list: mostly todos, some deadlines and events, a third done.
+     */
+    private static List<Task> createTasks(int count) {
+        String[] words = {"read", "book", "return", "meeting", "project", "report", "call", "mum", "buy",
+            "groceries", "submit", "assignment", "review", "pull", "request", "gym"};
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 9, 0);
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String description = words[i % words.length] + " " + words[(i * 7 + 3) % words.length] + " " + i;
+            LocalDateTime time = start.plusHours(i % 5000);
+            Task task = switch (i % 4) {
+            case 0 -> new Deadline(description, time);
+            case 1 -> new Event(description, time, time.plusHours(2));
+            default -> new ToDo(description);
+            };
+            if (i % 3 == 0) {
+                task.markAsDone();
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
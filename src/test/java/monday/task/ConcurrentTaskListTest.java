@@ -0,0 +1,126 @@
+package monday.task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for ConcurrentTaskList.
+ * Stresses concurrent writers against lock-free readers.
+ */
+public class ConcurrentTaskListTest {
+
+    private static final int WRITER_COUNT = 4;
+    private static final int READER_COUNT = 4;
+    private static final int ADDS_PER_WRITER = 2000;
+
+    @Test
+    public void testSingleThread_behavesLikeTaskList() {
+        ConcurrentTaskList taskList = new ConcurrentTaskList(List.of(new ToDo("read book")));
+        taskList.addTask(new ToDo("return book"));
+        taskList.insertTask(1, new ToDo("buy book"));
+        taskList.markTaskAsDone(2);
+
+        assertEquals(3, taskList.getTaskCount());
+        assertEquals("buy book", taskList.getTask(1).getDescription());
+        assertTrue(taskList.getTask(2).isDone());
+        assertEquals(3, taskList.getFilteredTasks("book").size());
+        assertEquals("return book", taskList.deleteTask(3).getDescription());
+        assertTrue(taskList.isValidTaskNumber(2));
+    }
+
+    @Test
+    public void testUndo_publishesSnapshot() {
+        ConcurrentTaskList taskList = new ConcurrentTaskList();
+        ToDo task = new ToDo("read book");
+        taskList.addTask(task);
+        taskList.recordEdit(TaskEdit.added(1, task));
+
+        taskList.undo();
+        assertTrue(taskList.isEmpty());
+        taskList.redo();
+        assertEquals(1, taskList.getTaskCount());
+    }
+
+    @Test
+    public void testGetTasks_isUnaffectedByLaterWrites() {
+        ConcurrentTaskList taskList = new ConcurrentTaskList();
+        taskList.addTask(new ToDo("read book"));
+        List<Task> tasks = taskList.getTasks();
+        taskList.deleteTask(1);
+
+        assertEquals(1, tasks.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> taskList.getTask(1));
+    }
+
+    @Test
+    public void testConcurrentWritesAndReads_noLostUpdatesOrTornReads() throws Exception {
+        ConcurrentTaskList taskList = new ConcurrentTaskList();
+        ExecutorService executor = Executors.newFixedThreadPool(WRITER_COUNT + READER_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+
+        List<Future<?>> writers = new ArrayList<>();
+        for (int w = 0; w < WRITER_COUNT; w++) {
+            int writer = w;
+            writers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ADDS_PER_WRITER; i++) {
+                    taskList.addTask(new ToDo("task " + writer + "-" + i));
+                    if (i % 2 == 1) {
+                        // Every writer has added more than it deleted, so task 1 always exists
+                        taskList.deleteTask(1);
+                    }
+                    taskList.markTaskAsDone(1);
+                }
+                return null;
+            }));
+        }
+
+        List<Future<Integer>> readers = new ArrayList<>();
+        for (int r = 0; r < READER_COUNT; r++) {
+            readers.add(executor.submit(() -> {
+                start.await();
+                int reads = 0;
+                do {
+                    List<Task> tasks = taskList.getTasks();
+                    for (Task task : tasks) {
+                        assertNotNull(task);
+                    }
+                    List<Task> matches = taskList.getFilteredTasks("task");
+                    assertTrue(matches.size() <= WRITER_COUNT * ADDS_PER_WRITER);
+                    if (!tasks.isEmpty()) {
+                        assertNotNull(taskList.getTask(1));
+                    }
+                    reads++;
+                } while (isWriting.get());
+                return reads;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get(30, TimeUnit.SECONDS);
+        }
+        isWriting.set(false);
+        for (Future<Integer> reader : readers) {
+            assertTrue(reader.get(30, TimeUnit.SECONDS) > 0);
+        }
+        executor.shutdown();
+
+        assertEquals(WRITER_COUNT * ADDS_PER_WRITER / 2, taskList.getTaskCount());
+        assertEquals(taskList.getTaskCount(), taskList.getFilteredTasks("task").size());
+    }
+}
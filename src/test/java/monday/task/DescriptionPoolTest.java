@@ -0,0 +1,45 @@
+package monday.task;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for DescriptionPool.
+ * Tests deduplication of equal descriptions and the bytes saved report.
+ */
+public class DescriptionPoolTest {
+
+    @Test
+    public void intern_equalDescriptions_returnsSameInstance() {
+        DescriptionPool pool = new DescriptionPool(16);
+        String first = new String("review PR");
+        String second = new String("review PR");
+
+        assertSame(first, pool.intern(first));
+        assertSame(first, pool.intern(second));
+        assertTrue(pool.getSavedBytes() > 0);
+    }
+
+    @Test
+    public void intern_sameInstanceTwice_savesNothing() {
+        DescriptionPool pool = new DescriptionPool(16);
+        String description = "standup";
+
+        pool.intern(description);
+        pool.intern(description);
+
+        assertEquals(0, pool.getSavedBytes());
+    }
+
+    @Test
+    public void intern_differentDescriptions_keptApart() {
+        DescriptionPool pool = new DescriptionPool(1);
+
+        assertEquals("read book", pool.intern("read book"));
+        assertEquals("return book", pool.intern("return book"));
+        assertEquals("read book", pool.intern("read book"));
+    }
+}
@@ -0,0 +1,89 @@
+package monday.task;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for RankedSearch.
+ * Tests word matching, typo tolerance, ranking and top-k selection.
+ */
+public class RankedSearchTest {
+
+    private static SearchResult search(String query, int limit, String... descriptions) {
+        List<Task> tasks = new ArrayList<>();
+        for (String description : descriptions) {
+            tasks.add(new ToDo(description));
+        }
+        return new RankedSearch(query).search(tasks, limit);
+    }
+
+    @Test
+    public void testSearch_exactBeatsPrefixBeatsTypo() {
+        SearchResult result = search("book", 10, "bok shelf", "bookmark page", "read book", "buy milk");
+
+        assertEquals(3, result.getMatchCount());
+        assertEquals(3, result.getTaskNumber(0));
+        assertEquals(2, result.getTaskNumber(1));
+        assertEquals(1, result.getTaskNumber(2));
+    }
+
+    @Test
+    public void testSearch_toleratesSwappedLetters() {
+        SearchResult result = search("meeitng", 10, "team meeting", "meet up");
+
+        assertEquals(1, result.getMatchCount());
+        assertEquals("team meeting", result.getTask(0).getDescription());
+    }
+
+    @Test
+    public void testSearch_shortWordsMustMatchExactly() {
+        SearchResult result = search("cat", 10, "cut grass", "cat food", "catalogue");
+
+        assertEquals(2, result.getMatchCount());
+        assertEquals(2, result.getTaskNumber(0));
+        assertEquals(3, result.getTaskNumber(1));
+    }
+
+    @Test
+    public void testSearch_rareWordOutranksCommonWord() {
+        SearchResult result = search("report urgent", 10,
+                "write report", "read report", "file report", "urgent call");
+
+        assertEquals(4, result.getTaskNumber(0));
+    }
+
+    @Test
+    public void testSearch_allWordsBeatOneWord() {
+        SearchResult result = search("return library book", 10,
+                "read book", "return library book", "library card");
+
+        assertEquals(2, result.getTaskNumber(0));
+    }
+
+    @Test
+    public void testSearch_keepsOnlyBestInListOrderForTies() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            tasks.add(new ToDo(i % 100 == 0 ? "pay rent" : "task " + i));
+        }
+
+        SearchResult result = new RankedSearch("RENT").search(tasks, 5);
+
+        assertEquals(5, result.getMatchCount());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i * 100 + 1, result.getTaskNumber(i));
+        }
+    }
+
+    @Test
+    public void testSearch_noMatches() {
+        assertEquals(0, search("zebra", 10, "read book").getMatchCount());
+        assertEquals(0, search("zebra", 10).getMatchCount());
+        assertTrue(new RankedSearch("--- !").isEmpty());
+    }
+}
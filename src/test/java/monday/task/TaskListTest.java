@@ -1,8 +1,10 @@
 package monday.task;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -230,6 +233,20 @@ public class TaskListTest {
         assertEquals(2, filtered.size());
     }
 
+    @Test
+    public void testGetFilteredTasks_ignoresDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            TaskList list = new TaskList(new ArrayList<>(List.of(new ToDo("FIX IT"), new ToDo("Straße"))));
+
+            assertEquals(1, list.getFilteredTasks("fix it").size());
+            assertEquals(1, list.getFilteredTasks("STRASSE").size());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     public void testGetFilteredTasks_partialMatch() {
         List<Task> filtered = taskList.getFilteredTasks("meet");
@@ -265,4 +282,50 @@ public class TaskListTest {
         assertTrue(filtered.stream().anyMatch(t -> t instanceof Deadline));
         assertTrue(filtered.stream().anyMatch(t -> t instanceof Event));
     }
+
+    @Test
+    public void undo_delete_restoresTaskAtSamePosition() {
+        Task deleted = taskList.deleteTask(2);
+        taskList.recordEdit(TaskEdit.deleted(2, deleted));
+
+        TaskEdit applied = taskList.undo();
+
+        assertEquals(TaskEdit.Kind.ADD, applied.getKind());
+        assertEquals(3, taskList.getTaskCount());
+        assertEquals(deleted, taskList.getTask(2));
+    }
+
+    @Test
+    public void undoRedo_mark_togglesBackAndForth() {
+        Task task = taskList.getTask(1);
+        taskList.markTaskAsDone(1);
+        taskList.recordEdit(TaskEdit.marked(1, task, true, false));
+
+        taskList.undo();
+        assertFalse(task.isDone());
+
+        taskList.redo();
+        assertTrue(task.isDone());
+    }
+
+    @Test
+    public void undoRedo_nothingRecorded_returnsNull() {
+        assertNull(emptyTaskList.undo());
+        assertNull(emptyTaskList.redo());
+    }
+
+    @Test
+    public void recordEdit_afterUndo_clearsRedo() {
+        Task task = new ToDo("Write report");
+        taskList.addTask(task);
+        taskList.recordEdit(TaskEdit.added(4, task));
+        taskList.undo();
+
+        Task other = new ToDo("Call mom");
+        taskList.addTask(other);
+        taskList.recordEdit(TaskEdit.added(4, other));
+
+        assertNull(taskList.redo());
+        assertEquals(other, taskList.getTask(4));
+    }
 }
@@ -0,0 +1,105 @@
+package monday.task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Test class for TaskSearch.
+ * Tests that narrowed and rescanned searches agree with find.
+ */
+public class TaskSearchTest {
+
+    private static List<Task> createTasks() {
+        return TaskSnapshot.of(List.of(new ToDo("read book"), new ToDo("return Book"),
+                new ToDo("buy bread"), new ToDo("bookmark page")));
+    }
+
+    @Test
+    public void testSearch_matchesIgnoringCase() {
+        SearchResult result = new TaskSearch().search(createTasks(), "BOOK", () -> false);
+
+        assertEquals(3, result.getMatchCount());
+        assertEquals(1, result.getTaskNumber(0));
+        assertEquals(2, result.getTaskNumber(1));
+        assertEquals(4, result.getTaskNumber(2));
+        assertEquals("return Book", result.getTask(1).getDescription());
+    }
+
+    @Test
+    public void testSearch_longerQueryNarrowsPreviousMatches() {
+        List<Task> tasks = createTasks();
+        TaskSearch search = new TaskSearch();
+        search.search(tasks, "b", () -> false);
+
+        SearchResult result = search.search(tasks, "boo", () -> false);
+
+        assertEquals(3, result.getMatchCount());
+        result = search.search(tasks, "bookm", () -> false);
+        assertEquals(1, result.getMatchCount());
+        assertEquals(4, result.getTaskNumber(0));
+    }
+
+    @Test
+    public void testSearch_shorterQueryRescans() {
+        List<Task> tasks = createTasks();
+        TaskSearch search = new TaskSearch();
+        search.search(tasks, "bookm", () -> false);
+
+        SearchResult result = search.search(tasks, "b", () -> false);
+
+        assertEquals(4, result.getMatchCount());
+    }
+
+    @Test
+    public void testSearch_changedListRescans() {
+        TaskSearch search = new TaskSearch();
+        search.search(createTasks(), "book", () -> false);
+        List<Task> changed = TaskSnapshot.of(createTasks()).append(new ToDo("e-book"));
+
+        SearchResult result = search.search(changed, "book", () -> false);
+
+        assertEquals(4, result.getMatchCount());
+        assertEquals(5, result.getTaskNumber(3));
+    }
+
+    @Test
+    public void testSearch_agreesWithFind() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            tasks.add(new ToDo("task " + i));
+        }
+        TaskList taskList = new TaskList(tasks);
+
+        SearchResult result = new TaskSearch().search(taskList.getTasks(), "99", () -> false);
+
+        List<Task> expected = taskList.getFilteredTasks("99");
+        assertEquals(expected.size(), result.getMatchCount());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), result.getTask(i));
+        }
+    }
+
+    @Test
+    public void testSearch_cancelledStopsAndKeepsPreviousResult() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            tasks.add(new ToDo("task " + i));
+        }
+        TaskSearch search = new TaskSearch();
+        search.search(tasks, "1", () -> false);
+        AtomicInteger checks = new AtomicInteger();
+
+        assertNull(search.search(tasks, "task", () -> checks.incrementAndGet() > 0));
+        assertEquals(1, checks.get());
+        SearchResult result = search.search(tasks, "12", () -> false);
+        assertEquals(tasks.stream().filter(task -> task.getDescription().contains("12")).count(),
+                result.getMatchCount());
+    }
+}
@@ -0,0 +1,88 @@
+package monday.task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for TaskSnapshot.
+ * Tests versioned updates against a plain ArrayList model.
+ */
+public class TaskSnapshotTest {
+
+    @Test
+    public void testOf_keepsOrder() {
+        List<Task> tasks = List.of(new ToDo("a"), new ToDo("b"), new ToDo("c"));
+        TaskSnapshot snapshot = TaskSnapshot.of(tasks);
+
+        assertEquals(tasks, snapshot);
+        assertSame(tasks.get(1), snapshot.get(1));
+        assertSame(snapshot, TaskSnapshot.of(snapshot));
+        assertTrue(TaskSnapshot.of(List.of()).isEmpty());
+    }
+
+    @Test
+    public void testUpdates_leaveOldVersionsUnchanged() {
+        TaskSnapshot first = TaskSnapshot.empty().append(new ToDo("a")).append(new ToDo("c"));
+        TaskSnapshot second = first.insert(1, new ToDo("b"));
+        TaskSnapshot third = second.delete(0);
+
+        assertEquals("[[T][ ] a, [T][ ] c]", first.toString());
+        assertEquals("[[T][ ] a, [T][ ] b, [T][ ] c]", second.toString());
+        assertEquals("[[T][ ] b, [T][ ] c]", third.toString());
+    }
+
+    @Test
+    public void testRandomUpdates_matchArrayList() {
+        Random random = new Random(42);
+        List<Task> model = new ArrayList<>();
+        TaskSnapshot snapshot = TaskSnapshot.empty();
+        for (int i = 0; i < 5000; i++) {
+            if (model.isEmpty() || random.nextInt(3) > 0) {
+                int index = random.nextInt(model.size() + 1);
+                Task task = new ToDo("task " + i);
+                model.add(index, task);
+                snapshot = snapshot.insert(index, task);
+            } else {
+                int index = random.nextInt(model.size());
+                model.remove(index);
+                snapshot = snapshot.delete(index);
+            }
+        }
+
+        assertEquals(model, snapshot);
+        for (int i = 0; i < model.size(); i++) {
+            assertSame(model.get(i), snapshot.get(i));
+        }
+    }
+
+    @Test
+    public void testAppend_staysBalanced() {
+        TaskSnapshot snapshot = TaskSnapshot.empty();
+        for (int i = 0; i < 1024; i++) {
+            snapshot = snapshot.append(new ToDo("task " + i));
+        }
+        // An AVL tree of n nodes is at most about 1.44 log2(n) high
+        assertTrue(snapshot.getHeight() <= 15, "height was " + snapshot.getHeight());
+        for (int i = 0; i < 1000; i++) {
+            snapshot = snapshot.delete(0);
+        }
+        assertEquals(24, snapshot.size());
+        assertTrue(snapshot.getHeight() <= 7, "height was " + snapshot.getHeight());
+    }
+
+    @Test
+    public void testOutOfRange_throws() {
+        TaskSnapshot snapshot = TaskSnapshot.empty().append(new ToDo("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.delete(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.insert(2, new ToDo("b")));
+    }
+}
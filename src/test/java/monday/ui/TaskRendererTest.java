@@ -0,0 +1,59 @@
+package monday.ui;
+
+import monday.task.Deadline;
+import monday.task.Event;
+import monday.task.Task;
+import monday.task.ToDo;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for TaskRenderer.
+ * Tests numbered rendering into different Appendable destinations.
+ */
+public class TaskRendererTest {
+
+    private final LocalDateTime dateTime = LocalDateTime.of(2019, 12, 2, 18, 0);
+    private final List<Task> tasks = Arrays.asList(
+            new ToDo("read book"),
+            new Deadline("return book", dateTime),
+            new Event("meeting", dateTime, dateTime.plusHours(2)));
+
+    @Test
+    public void appendNumberedTasks_stringBuilder_matchesToString() throws IOException {
+        StringBuilder sb = new StringBuilder();
+
+        TaskRenderer.appendNumberedTasks(sb, tasks, 0, tasks.size());
+
+        String expected = "1. " + tasks.get(0) + "\n2. " + tasks.get(1) + "\n3. " + tasks.get(2);
+        assertEquals(expected, sb.toString());
+    }
+
+    @Test
+    public void appendNumberedTasks_writerAndRange_keepsGlobalNumbers() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        TaskRenderer.appendNumberedTasks(writer, tasks, 1, 3);
+
+        assertEquals("2. [D][ ] return book (by: Dec 02 2019 1800)\n"
+                + "3. [E][ ] meeting (from: Dec 02 2019 1800 to: Dec 02 2019 2000)", writer.toString());
+    }
+
+    @Test
+    public void estimateCapacity_coversRenderedLength() throws IOException {
+        StringBuilder sb = new StringBuilder();
+
+        TaskRenderer.appendNumberedTasks(sb, tasks, 0, tasks.size());
+
+        assertTrue(TaskRenderer.estimateCapacity(tasks, 0, tasks.size()) >= sb.length());
+    }
+}
@@ -0,0 +1,109 @@
+package monday.ui;
+
+import monday.task.Task;
+import monday.task.ToDo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for Ui.
+ * Tests that responses are rendered to the configured output sink.
+ */
+public class UiTest {
+
+    private static final String NEWLINE = System.lineSeparator();
+
+    @Test
+    public void showResponse_bufferedSink_writesOnlyOnFlush() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Ui ui = new Ui(new ConsoleSink(out, false));
+
+        ui.showResponse("hello");
+        assertEquals(0, out.size(), "Buffered sink should not write before flush");
+
+        ui.flush();
+        String written = out.toString();
+        assertTrue(written.contains(NEWLINE + NEWLINE + "hello" + NEWLINE), "Message should be framed");
+        assertEquals("hello", ui.getLastResponse());
+    }
+
+    @Test
+    public void showResponse_autoFlushSink_writesImmediately() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Ui ui = new Ui(new ConsoleSink(out, true));
+
+        ui.showFarewell();
+
+        assertTrue(out.toString().contains("Finally, you're leaving."));
+    }
+
+    @Test
+    public void showResponse_defaultConsoleSink_buffersUntilFlush() {
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(out));
+        try {
+            Ui ui = new Ui();
+
+            ui.showResponse("hello");
+            assertEquals(0, out.size(), "Default sink should not write before flush");
+
+            ui.flush();
+            assertTrue(out.toString().contains("hello"));
+        } finally {
+            System.setOut(originalOut);
+        }
+    }
+
+    @Test
+    public void showResponse_nullSink_keepsLastResponse() {
+        Ui ui = new Ui(new NullSink());
+
+        ui.showResponse("for the GUI");
+
+        assertEquals("for the GUI", ui.getLastResponse());
+    }
+
+    @Test
+    public void showTaskList_secondPage_numbersContinueAndOffersNextPage() {
+        Ui ui = new Ui(new NullSink());
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= 25; i++) {
+            tasks.add(new ToDo("task " + i));
+        }
+
+        ui.showTaskList(tasks, new PageRequest(2, 10));
+
+        String response = ui.getLastResponse();
+        assertTrue(response.startsWith("11. [T][ ] task 11"));
+        assertTrue(response.contains("20. [T][ ] task 20"));
+        assertFalse(response.contains("21. "));
+        assertTrue(response.contains("Page 2 of 3"));
+        assertEquals("list --page 3 --page-size 10", ui.getNextPageCommand());
+    }
+
+    @Test
+    public void showTaskList_singlePage_noFooterOrNextPage() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Ui ui = new Ui(new ConsoleSink(out, false));
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo("read book"));
+
+        ui.showTaskList(tasks);
+        ui.flush();
+
+        assertEquals("1. [T][ ] read book", ui.getLastResponse());
+        assertNull(ui.getNextPageCommand());
+        assertTrue(out.toString().contains("1. [T][ ] read book" + NEWLINE));
+    }
+}
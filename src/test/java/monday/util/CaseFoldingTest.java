@@ -0,0 +1,48 @@
+package monday.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for CaseFolding.
+ * Tests ASCII and Unicode folding and the no-allocation fast path.
+ */
+public class CaseFoldingTest {
+
+    @Test
+    public void testFold_alreadyFolded_returnsSameInstance() {
+        String text = "read book 42";
+        assertSame(text, CaseFolding.fold(text));
+
+        String unicode = "café";
+        assertSame(unicode, CaseFolding.fold(unicode));
+
+        String greek = "ημέρα οδοσ";
+        assertSame(greek, CaseFolding.fold(greek));
+    }
+
+    @Test
+    public void testFold_asciiUpperCase() {
+        assertEquals("read book", CaseFolding.fold("Read BOOK"));
+        assertEquals("list", CaseFolding.fold("LIST"));
+    }
+
+    @Test
+    public void testFold_unicode() {
+        assertEquals(CaseFolding.fold("STRASSE"), CaseFolding.fold("straße"));
+        assertEquals(CaseFolding.fold("ΟΔΟΣ"), CaseFolding.fold("οδος"));
+        assertEquals(CaseFolding.fold("οδοσ"), CaseFolding.fold("οδος"));
+        assertEquals("café", CaseFolding.fold("CAFÉ"));
+    }
+
+    @Test
+    public void testFold_greekFinalSigma_matchesInsideWords() {
+        assertEquals("οδοσ", CaseFolding.fold("ΟΔΟΣ"));
+        assertEquals(CaseFolding.fold("Σ"), CaseFolding.fold("ς"));
+        assertTrue(CaseFolding.fold("ΟΔΟΣΤΡΩΜΑ").contains(CaseFolding.fold("ΟΔΟΣ")));
+        assertTrue(CaseFolding.fold("ΟΣΟ").contains(CaseFolding.fold("ος")));
+    }
+}
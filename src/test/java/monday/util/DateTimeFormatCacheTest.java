@@ -0,0 +1,53 @@
+package monday.util;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Test class for DateTimeFormatCache.
+ * Tests that cached strings match the formatter and that hits and misses are counted.
+ */
+public class DateTimeFormatCacheTest {
+
+    @Test
+    public void format_sameMinute_servedFromCache() {
+        DateTimeFormatCache cache = new DateTimeFormatCache(DateTimeParser.OUTPUT_FORMATTER, 16);
+        LocalDateTime dateTime = LocalDateTime.of(2019, 12, 2, 23, 59);
+
+        String first = cache.format(dateTime);
+        String second = cache.format(LocalDateTime.of(2019, 12, 2, 23, 59));
+
+        assertEquals("Dec 02 2019 2359", first);
+        assertSame(first, second);
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void format_collidingMinutes_replaceSlot() {
+        DateTimeFormatCache cache = new DateTimeFormatCache(DateTimeParser.STORAGE_FORMATTER, 1);
+        LocalDateTime first = LocalDateTime.of(2019, 12, 2, 18, 0);
+        LocalDateTime second = LocalDateTime.of(2019, 12, 2, 18, 2);
+
+        assertEquals("2019-12-02 18:00", cache.format(first));
+        assertEquals("2019-12-02 18:02", cache.format(second));
+        assertEquals("2019-12-02 18:00", cache.format(first));
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    public void format_withSeconds_notCached() {
+        DateTimeFormatCache cache = new DateTimeFormatCache(DateTimeParser.STORAGE_FORMATTER, 16);
+        LocalDateTime dateTime = LocalDateTime.of(2019, 12, 2, 18, 0, 30);
+
+        cache.format(dateTime);
+        cache.format(dateTime);
+
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+}
@@ -1,11 +1,13 @@
 package monday.util;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -103,4 +105,60 @@ public class DateTimeParserTest {
             DateTimeParser.parseDateTime("2019-12-02");
         });
     }
+
+    @Test
+    public void testParseDateTime_midnightAsEndOfDay_rollsToNextDay() {
+        LocalDateTime result = DateTimeParser.parseDateTime("2019-12-31 2400");
+        assertEquals(LocalDateTime.of(2020, 1, 1, 0, 0), result);
+    }
+
+    @Test
+    public void testTryParseDateTime_invalidShapes_returnsNull() {
+        assertNull(DateTimeParser.tryParseDateTime("2019-12-02 18:00"));
+        assertNull(DateTimeParser.tryParseDateTime("2019-12-2 1800"));
+        assertNull(DateTimeParser.tryParseDateTime("2/12/19 1800"));
+        assertNull(DateTimeParser.tryParseDateTime("2/123/2019 1800"));
+        assertNull(DateTimeParser.tryParseDateTime("2019-12-32 1800"));
+        assertNull(DateTimeParser.tryParseDateTime("0000-12-02 1800"));
+        assertNull(DateTimeParser.tryParseDateTime("2019-12-02 2430"));
+    }
+
+    @Test
+    public void testTryParseDateTime_paddedDayAndMonth_acceptedLikeFormatter() {
+        assertEquals(LocalDateTime.of(2019, 12, 2, 18, 0), DateTimeParser.tryParseDateTime("002/12/2019 1800"));
+        assertEquals(LocalDateTime.of(2019, 12, 2, 18, 0), DateTimeParser.tryParseDateTime("2/012/2019 1800"));
+        assertEquals(LocalDateTime.of(2019, 12, 2, 18, 0),
+                DateTimeParser.tryParseDateTime("0000000000000000002/12/2019 1800"));
+        assertNull(DateTimeParser.tryParseDateTime("00000000000000000002/12/2019 1800"));
+        assertNull(DateTimeParser.tryParseDateTime("99999999999/12/2019 1800"));
+    }
+
+    @Test
+    public void testParseDate_bothFormats() {
+        assertEquals(LocalDate.of(2019, 12, 25), DateTimeParser.parseDate("2019-12-25"));
+        assertEquals(LocalDate.of(2019, 12, 25), DateTimeParser.parseDate("25/12/2019"));
+        assertEquals(LocalDate.of(2019, 4, 30), DateTimeParser.parseDate("31/4/2019"));
+        assertThrows(DateTimeParseException.class, () -> {
+            DateTimeParser.parseDate("2019-12-25 1800");
+        });
+    }
+
+    @Test
+    public void testParseStorageDateTime_canonical() {
+        assertEquals(LocalDateTime.of(2019, 12, 2, 18, 0), DateTimeParser.parseStorageDateTime("2019-12-02 18:00"));
+        assertEquals(LocalDateTime.of(2023, 2, 28, 23, 59), DateTimeParser.parseStorageDateTime("2023-02-29 23:59"));
+    }
+
+    @Test
+    public void testParseStorageDateTime_invalid_throws() {
+        assertThrows(DateTimeParseException.class, () -> {
+            DateTimeParser.parseStorageDateTime("2019-13-02 18:00");
+        });
+        assertThrows(DateTimeParseException.class, () -> {
+            DateTimeParser.parseStorageDateTime("02/12/2019 18:00");
+        });
+        assertThrows(DateTimeParseException.class, () -> {
+            DateTimeParser.parseStorageDateTime("2019-12-02 1800");
+        });
+    }
 }
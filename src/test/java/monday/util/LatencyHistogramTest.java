@@ -0,0 +1,63 @@
+package monday.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for LatencyHistogram.
+ * Tests bucketing and percentile lookups.
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void testEmpty_reportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void testSmallValues_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+        assertEquals(5, histogram.getValueAtPercentile(50));
+        assertEquals(10, histogram.getValueAtPercentile(100));
+        assertEquals(1, histogram.getValueAtPercentile(0));
+    }
+
+    @Test
+    public void testLargeValues_withinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        long p90 = histogram.getValueAtPercentile(90);
+        assertTrue(p90 >= 900_000 && p90 <= 900_000 * 1.07, "p90 was " + p90);
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(1000, histogram.getCount());
+    }
+
+    @Test
+    public void testBuckets_coverEveryValue() {
+        long[] values = {0, 31, 32, 33, 47, 48, 1000, 123_456_789, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(LatencyHistogram.upperBoundOf(bucket) >= value, "value " + value);
+            if (bucket > 0) {
+                assertTrue(LatencyHistogram.upperBoundOf(bucket - 1) < value, "value " + value);
+            }
+        }
+    }
+
+    @Test
+    public void testNegative_recordedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(1, histogram.getCount());
+    }
+}
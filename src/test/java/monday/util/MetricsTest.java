@@ -0,0 +1,57 @@
+package monday.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for Metrics.
+ * Uses a private registry so results don't depend on other tests.
+ */
+public class MetricsTest {
+
+    @Test
+    public void testLookups_returnSameMetric() {
+        Metrics metrics = new Metrics();
+        assertSame(metrics.counter("a"), metrics.counter("a"));
+        assertSame(metrics.timer("b"), metrics.timer("b"));
+    }
+
+    @Test
+    public void testGetReport_sortedWithValues() {
+        Metrics metrics = new Metrics();
+        metrics.counter("storage.load.lines").add(42);
+        metrics.timer("command.parse").record(2_000);
+
+        String report = metrics.getReport();
+        String[] lines = report.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("command.parse: count=1 p50=2.0us"), lines[0]);
+        assertEquals("storage.load.lines: 42", lines[1]);
+    }
+
+    @Test
+    public void testGetReport_empty() {
+        assertEquals("", new Metrics().getReport());
+    }
+
+    @Test
+    public void testDumpTo_writesReport() throws IOException {
+        Metrics metrics = new Metrics();
+        metrics.counter("command.rejected").increment();
+        Path dir = Files.createTempDirectory("monday_metrics");
+        Path file = dir.resolve("monday.stats");
+
+        metrics.dumpTo(file);
+
+        assertTrue(Files.readString(file).contains("command.rejected: 1"));
+        Files.delete(file);
+        Files.delete(dir);
+    }
+}